@@ -0,0 +1,87 @@
+package de.tecca.oraxenoredrops.benchmarks;
+
+import de.tecca.oraxenoredrops.enums.DropMethod;
+import de.tecca.oraxenoredrops.managers.ItemPrototypeCache;
+import de.tecca.oraxenoredrops.model.CompiledDropTable;
+import de.tecca.oraxenoredrops.model.DropEntry;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared, server-independent fixtures for the benchmarks
+ */
+final class BenchmarkFixtures {
+
+    /** Block with drops configured */
+    static final Material CONFIGURED = Material.DIAMOND_ORE;
+
+    /** Block without drops - the common case on mining servers */
+    static final Material UNCONFIGURED = Material.DIRT;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Drop table shaped like the default config plus a rare and a legendary entry
+     */
+    static CompiledDropTable table(DropMethod method) {
+        Map<Material, List<DropEntry>> drops = new EnumMap<>(Material.class);
+        drops.put(Material.STONE, List.of(
+                new DropEntry("smooth_pebble", 2.0, 1, 1)));
+        drops.put(Material.DIAMOND_ORE, List.of(
+                new DropEntry("diamond_shard", 25.0, 1, 3),
+                new DropEntry("rare_gem", 0.5, 1, 1),
+                new DropEntry("ancient_relic", 0.05, 1, 1)));
+        drops.put(Material.ANCIENT_DEBRIS, List.of(
+                new DropEntry("netherite_fragment", 15.0, 1, 2)));
+        drops.put(Material.OAK_LOG, List.of(
+                new DropEntry("resin", 5.0, 1, 1)));
+        return CompiledDropTable.compile(drops, method, 50);
+    }
+
+    /**
+     * Prototype cache backed by plain stacks instead of Oraxen items
+     */
+    static ItemPrototypeCache stubItemCache() {
+        return new ItemPrototypeCache(id -> new StubItemStack(Material.PAPER, 1));
+    }
+
+    /**
+     * Minimal ItemStack that needs no server-backed item factory
+     */
+    static final class StubItemStack extends ItemStack {
+
+        private final Material type;
+        private int amount;
+
+        StubItemStack(Material type, int amount) {
+            super();
+            this.type = type;
+            this.amount = amount;
+        }
+
+        @Override
+        public Material getType() {
+            return type;
+        }
+
+        @Override
+        public int getAmount() {
+            return amount;
+        }
+
+        @Override
+        public void setAmount(int amount) {
+            this.amount = amount;
+        }
+
+        @Override
+        public StubItemStack clone() {
+            return new StubItemStack(type, amount);
+        }
+    }
+}
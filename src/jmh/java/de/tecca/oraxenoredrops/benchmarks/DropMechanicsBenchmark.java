@@ -0,0 +1,61 @@
+package de.tecca.oraxenoredrops.benchmarks;
+
+import de.tecca.oraxenoredrops.util.DropMechanics;
+import de.tecca.oraxenoredrops.util.DropMechanics.DropRarity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Raw cost of the Fortune formulas, i.e. what the break path paid per entry
+ * before the precomputed tables
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DropMechanicsBenchmark {
+
+    @Param({"0.05", "0.5", "5.0", "25.0", "75.0"})
+    public double chance;
+
+    @Param({"0", "3", "10", "25", "50"})
+    public int fortune;
+
+    @Benchmark
+    public DropRarity fromChance() {
+        return DropRarity.fromChance(chance);
+    }
+
+    @Benchmark
+    public double calculateDropChance() {
+        return DropMechanics.calculateDropChance(chance, fortune);
+    }
+
+    @Benchmark
+    public DropMechanics.BonusRollResult calculateBonusRolls() {
+        return DropMechanics.calculateBonusRolls(chance, fortune);
+    }
+
+    @Benchmark
+    public DropMechanics.HybridDropResult calculateHybridDrop() {
+        return DropMechanics.calculateHybridDrop(chance, fortune);
+    }
+
+    @Benchmark
+    public int calculateDropAmount() {
+        return DropMechanics.calculateDropAmount(1, 3, fortune, ThreadLocalRandom.current());
+    }
+}
@@ -0,0 +1,120 @@
+package de.tecca.oraxenoredrops.benchmarks;
+
+import de.tecca.oraxenoredrops.enums.DropMethod;
+import de.tecca.oraxenoredrops.managers.ItemPrototypeCache;
+import de.tecca.oraxenoredrops.model.CompiledDropTable;
+import de.tecca.oraxenoredrops.model.DropBuffer;
+import de.tecca.oraxenoredrops.util.DropRandom;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-break cost of the drop pipeline for each DropMethod
+ *
+ * Run with -prof gc: rollIntoMiss and rollIntoConfigured must report 0 B/op.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DropTableBenchmark {
+
+    @Param({"DIMINISHING", "BONUS_ROLLS", "HYBRID"})
+    public DropMethod method;
+
+    @Param({"0", "3", "10", "25", "50"})
+    public int fortune;
+
+    private CompiledDropTable table;
+    private ItemPrototypeCache itemCache;
+    private DropBuffer buffer;
+    private DropRandom random;
+
+    @Setup
+    public void setup() {
+        table = BenchmarkFixtures.table(method);
+        itemCache = BenchmarkFixtures.stubItemCache();
+        itemCache.warm(table.getItemIds());
+        buffer = new DropBuffer();
+        random = DropRandom.createDefault();
+    }
+
+    /**
+     * Block without drops
+     */
+    @Benchmark
+    public int rollIntoMiss() {
+        buffer.clear();
+        return table.rollInto(BenchmarkFixtures.UNCONFIGURED, fortune, buffer, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Block with three entries, rolls only
+     */
+    @Benchmark
+    public int rollIntoConfigured() {
+        buffer.clear();
+        return table.rollInto(BenchmarkFixtures.CONFIGURED, fortune, buffer, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Same as rollIntoConfigured with the plugin's default generator (L64X128MixRandom)
+     */
+    @Benchmark
+    public int rollIntoConfiguredLxm() {
+        buffer.clear();
+        return table.rollInto(BenchmarkFixtures.CONFIGURED, fortune, buffer, random.get());
+    }
+
+    /**
+     * Rolls plus ItemStacks - what a break that hits a drop costs end to end
+     */
+    @Benchmark
+    public void processDrops(Blackhole blackhole) {
+        buffer.clear();
+        table.rollInto(BenchmarkFixtures.CONFIGURED, fortune, buffer, ThreadLocalRandom.current());
+
+        for (int i = 0; i < buffer.size(); i++) {
+            ItemStack item = itemCache.create(table.getItemId(buffer.itemIndex(i)), buffer.amount(i));
+            blackhole.consume(item);
+        }
+    }
+
+    /**
+     * 300-block vein-mine in one aggregated roll
+     */
+    @Benchmark
+    public int rollBulkVein() {
+        buffer.clear();
+        return table.rollBulkInto(BenchmarkFixtures.CONFIGURED, 300, fortune, buffer, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Same 300 blocks rolled one by one, baseline for rollBulkVein
+     */
+    @Benchmark
+    public int rollEachVein() {
+        buffer.clear();
+        int dropped = 0;
+        for (int i = 0; i < 300; i++) {
+            dropped += table.rollInto(BenchmarkFixtures.CONFIGURED, fortune, buffer, ThreadLocalRandom.current());
+        }
+        return dropped;
+    }
+}
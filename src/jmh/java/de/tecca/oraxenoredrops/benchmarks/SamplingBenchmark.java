@@ -0,0 +1,51 @@
+package de.tecca.oraxenoredrops.benchmarks;
+
+import de.tecca.oraxenoredrops.util.DropMechanics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binomial sampling vs. rolling every attempt on its own
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SamplingBenchmark {
+
+    @Param({"1", "11", "51", "500", "15000"})
+    public int rolls;
+
+    @Param({"0.005", "0.25"})
+    public double chance;
+
+    @Benchmark
+    public int binomial() {
+        return DropMechanics.sampleBinomial(rolls, chance, ThreadLocalRandom.current());
+    }
+
+    @Benchmark
+    public int perRollLoop() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int successes = 0;
+        for (int i = 0; i < rolls; i++) {
+            if (random.nextDouble() < chance) {
+                successes++;
+            }
+        }
+        return successes;
+    }
+}
@@ -0,0 +1,126 @@
+package de.tecca.oraxenoredrops.benchmarks;
+
+import de.tecca.oraxenoredrops.util.DropMechanics;
+
+import java.util.SplittableRandom;
+
+/**
+ * Chi-square check of {@link DropMechanics#sampleBinomial} against the exact binomial distribution
+ *
+ * Not a benchmark - a standalone check that the fast sampler (inversion and
+ * BTPE) draws the same distribution as rolling every attempt on its own.
+ * The per-roll loop is checked the same way as a reference. Run after
+ * compiling the benchmark sources:
+ *   java -cp target/classes:target/test-classes de.tecca.oraxenoredrops.benchmarks.SamplingDistributionCheck
+ *
+ * Exits with status 1 if a case fails at the 0.1% level.
+ */
+public final class SamplingDistributionCheck {
+
+    private static final int SAMPLES = 1_000_000;
+
+    // Minimum expected count per bin, rarer outcomes are pooled into the tails
+    private static final double MIN_EXPECTED = 5.0;
+
+    // z of the Wilson-Hilferty approximation for p = 0.001
+    private static final double CRITICAL_Z = 3.09;
+
+    // (rolls, chance) - covers inversion (n*p < 30), BTPE and mirrored p > 0.5
+    private static final double[][] CASES = {
+            {11, 0.25}, {51, 0.25}, {500, 0.005}, {15000, 0.005},
+            {100, 0.4}, {1000, 0.05}, {500, 0.5}, {200, 0.7}, {5000, 0.3}
+    };
+
+    private SamplingDistributionCheck() {
+    }
+
+    public static void main(String[] args) {
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : 42L;
+        SplittableRandom random = new SplittableRandom(seed);
+        boolean failed = false;
+
+        System.out.printf("%-16s %-10s %6s %10s %8s  %s%n", "case", "sampler", "bins", "chi2", "z", "result");
+        for (double[] c : CASES) {
+            int n = (int) c[0];
+            double p = c[1];
+            double[] pmf = binomialPmf(n, p);
+
+            long[] fast = new long[n + 1];
+            for (int i = 0; i < SAMPLES; i++) {
+                fast[DropMechanics.sampleBinomial(n, p, random)]++;
+            }
+            failed |= report(n, p, "binomial", fast, pmf);
+
+            long[] loop = new long[n + 1];
+            for (int i = 0; i < SAMPLES; i++) {
+                int successes = 0;
+                for (int roll = 0; roll < n; roll++) {
+                    if (random.nextDouble() < p) successes++;
+                }
+                loop[successes]++;
+            }
+            failed |= report(n, p, "per-roll", loop, pmf);
+        }
+
+        if (failed) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Prints one result line
+     *
+     * @return true if the counts do not match the distribution
+     */
+    private static boolean report(int n, double p, String sampler, long[] observed, double[] pmf) {
+        int bins = 0;
+        double chi2 = 0;
+        double expectedBin = 0;
+        long observedBin = 0;
+
+        for (int k = 0; k <= n; k++) {
+            expectedBin += pmf[k] * SAMPLES;
+            observedBin += observed[k];
+
+            // Close a bin once it is large enough and the rest of the tail is too
+            double rest = 0;
+            for (int j = k + 1; j <= n && rest < MIN_EXPECTED; j++) {
+                rest += pmf[j] * SAMPLES;
+            }
+            if (expectedBin >= MIN_EXPECTED && (rest >= MIN_EXPECTED || k == n)) {
+                double diff = observedBin - expectedBin;
+                chi2 += diff * diff / expectedBin;
+                bins++;
+                expectedBin = 0;
+                observedBin = 0;
+            }
+        }
+        if (expectedBin > 0) {
+            // Tail too small for its own bin, add it to the statistic's last bin
+            double diff = observedBin - expectedBin;
+            chi2 += diff * diff / Math.max(expectedBin, MIN_EXPECTED);
+        }
+
+        int df = Math.max(1, bins - 1);
+        double z = (Math.cbrt(chi2 / df) - (1 - 2.0 / (9 * df))) / Math.sqrt(2.0 / (9 * df));
+        boolean failed = z > CRITICAL_Z;
+
+        System.out.printf("n=%-6d p=%-6s %-10s %6d %10.1f %8.2f  %s%n",
+                n, p, sampler, bins, chi2, z, failed ? "FAIL" : "ok");
+        return failed;
+    }
+
+    /**
+     * Exact binomial probabilities, computed in log space (n up to 15000)
+     */
+    private static double[] binomialPmf(int n, double p) {
+        double[] pmf = new double[n + 1];
+        double logRatio = Math.log(p / (1 - p));
+        double log = n * Math.log1p(-p);
+        for (int k = 0; k <= n; k++) {
+            pmf[k] = Math.exp(log);
+            log += Math.log((double) (n - k) / (k + 1)) + logRatio;
+        }
+        return pmf;
+    }
+}
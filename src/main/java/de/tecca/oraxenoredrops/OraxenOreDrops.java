@@ -2,26 +2,62 @@ package de.tecca.oraxenoredrops;
 
 import de.tecca.oraxenoredrops.commands.OraxenOreDropsCommand;
 import de.tecca.oraxenoredrops.listeners.BlockBreakListener;
+import de.tecca.oraxenoredrops.listeners.ExplosionListener;
+import de.tecca.oraxenoredrops.listeners.OraxenItemsListener;
+import de.tecca.oraxenoredrops.listeners.ToolChangeListener;
 import de.tecca.oraxenoredrops.managers.BlockDropManager;
+import de.tecca.oraxenoredrops.managers.ConfigReloader;
+import de.tecca.oraxenoredrops.managers.ConfigWatcher;
+import de.tecca.oraxenoredrops.managers.DropLedger;
+import de.tecca.oraxenoredrops.managers.DropMetrics;
+import de.tecca.oraxenoredrops.managers.DropSpawnQueue;
+import de.tecca.oraxenoredrops.managers.EnchantProfileCache;
+import de.tecca.oraxenoredrops.managers.PlacedBlockTracker;
+import de.tecca.oraxenoredrops.managers.VeinMinerTracker;
 import de.tecca.oraxenoredrops.util.AEAPIUtil;
+import de.tecca.oraxenoredrops.util.OraxenItemUtil;
 import de.tecca.oraxenoredrops.util.PluginLogger;
+import de.tecca.oraxenoredrops.util.SchedulerAdapter;
 import org.bukkit.Bukkit;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
 public final class OraxenOreDrops extends JavaPlugin {
 
     private static OraxenOreDrops instance;
 
     private BlockDropManager blockDropManager;
+    private EnchantProfileCache enchantProfileCache;
+    private DropMetrics dropMetrics;
+    private DropLedger dropLedger;
+    private DropSpawnQueue dropSpawnQueue;
+    private VeinMinerTracker veinMinerTracker;
+    private PlacedBlockTracker placedBlockTracker;
     private BlockBreakListener blockBreakListener;
+    private ExplosionListener explosionListener;
+    private ConfigReloader configReloader;
+    private ConfigWatcher configWatcher;
+
+    // Replaced as a whole by reloads, see ConfigReloader
+    private volatile FileConfiguration config;
 
     private PluginLogger pluginLogger;
+    private SchedulerAdapter schedulerAdapter;
 
     @Override
     public void onEnable() {
         instance = this;
 
         pluginLogger = new PluginLogger(this);
+        schedulerAdapter = SchedulerAdapter.create(this);
 
         // Check for Oraxen
         if (Bukkit.getPluginManager().getPlugin("Oraxen") == null) {
@@ -37,31 +73,136 @@ public final class OraxenOreDrops extends JavaPlugin {
             pluginLogger.info("AdvancedEnchantments not found - Using vanilla enchants only");
         }
 
+        if (schedulerAdapter.isRegionized()) {
+            pluginLogger.info("✓ Folia detected - Using region schedulers");
+        }
+
         saveDefaultConfig();
 
         blockDropManager = new BlockDropManager(this);
+        enchantProfileCache = new EnchantProfileCache();
+        dropMetrics = new DropMetrics(this);
+        dropLedger = new DropLedger(this);
+        dropLedger.start();
+        dropSpawnQueue = new DropSpawnQueue(this);
+        veinMinerTracker = new VeinMinerTracker(schedulerAdapter.isRegionized());
+        placedBlockTracker = new PlacedBlockTracker(this);
 
         blockBreakListener = new BlockBreakListener(this);
+        explosionListener = new ExplosionListener(this);
 
         Bukkit.getPluginManager().registerEvents(blockBreakListener, this);
+        Bukkit.getPluginManager().registerEvents(explosionListener, this);
+        Bukkit.getPluginManager().registerEvents(dropSpawnQueue, this);
+        Bukkit.getPluginManager().registerEvents(veinMinerTracker, this);
+        Bukkit.getPluginManager().registerEvents(placedBlockTracker, this);
+        Bukkit.getPluginManager().registerEvents(new OraxenItemsListener(this), this);
+        Bukkit.getPluginManager().registerEvents(new ToolChangeListener(enchantProfileCache), this);
+
+        configReloader = new ConfigReloader(this);
+        configWatcher = new ConfigWatcher(this);
+        configWatcher.reload();
 
         // Register command
         OraxenOreDropsCommand commandExecutor = new OraxenOreDropsCommand(this);
         getCommand("oraxenoredrops").setExecutor(commandExecutor);
         getCommand("oraxenoredrops").setTabCompleter(commandExecutor);
 
+        // Drop tables are built once Oraxen's items exist, independent of the load order
+        if (OraxenItemUtil.isLoaded()) {
+            configReloader.warmUp("already loaded");
+        } else {
+            pluginLogger.info("Waiting for Oraxen items - drop tables are warming up");
+        }
+
         pluginLogger.info("OraxenOreDrops successfully enabled!");
     }
 
     @Override
     public void onDisable() {
+        if (configWatcher != null) {
+            configWatcher.shutdown();
+        }
+
+        // Spawn drops still waiting for the end of the tick
+        if (dropSpawnQueue != null) {
+            dropSpawnQueue.flush();
+        }
+
         if (blockBreakListener != null) {
             blockBreakListener.shutdown();
         }
 
+        if (placedBlockTracker != null) {
+            placedBlockTracker.saveAll();
+        }
+
+        if (dropMetrics != null) {
+            dropMetrics.shutdown();
+        }
+
+        // Write the drops still queued for the ledger
+        if (dropLedger != null) {
+            dropLedger.shutdown();
+        }
+
+        if (schedulerAdapter != null) {
+            schedulerAdapter.cancelTasks();
+        }
+
         pluginLogger.info("OraxenOreDrops disabled!");
     }
 
+    // ==================== CONFIG ====================
+
+    @Override
+    public FileConfiguration getConfig() {
+        if (config == null) {
+            reloadConfig();
+        }
+        return config;
+    }
+
+    @Override
+    public void reloadConfig() {
+        try {
+            config = loadConfigFile();
+        } catch (IOException | InvalidConfigurationException e) {
+            getLogger().severe("Could not load config.yml: " + e.getMessage());
+            config = withDefaults(new YamlConfiguration());
+        }
+    }
+
+    /**
+     * Parses config.yml with the defaults from the jar
+     *
+     * Does not change the live config, safe off the main thread.
+     */
+    public FileConfiguration loadConfigFile() throws IOException, InvalidConfigurationException {
+        YamlConfiguration loaded = new YamlConfiguration();
+        File file = new File(getDataFolder(), "config.yml");
+        if (file.exists()) {
+            loaded.load(file);
+        }
+        return withDefaults(loaded);
+    }
+
+    /**
+     * Makes a config returned by {@link #loadConfigFile()} the live one
+     */
+    public void publishConfig(FileConfiguration config) {
+        this.config = config;
+    }
+
+    private FileConfiguration withDefaults(FileConfiguration loaded) {
+        InputStream defaults = getResource("config.yml");
+        if (defaults != null) {
+            loaded.setDefaults(YamlConfiguration.loadConfiguration(
+                    new InputStreamReader(defaults, StandardCharsets.UTF_8)));
+        }
+        return loaded;
+    }
+
     public static OraxenOreDrops getInstance() {
         return instance;
     }
@@ -70,7 +211,51 @@ public final class OraxenOreDrops extends JavaPlugin {
         return blockDropManager;
     }
 
+    public EnchantProfileCache getEnchantProfileCache() {
+        return enchantProfileCache;
+    }
+
+    public DropMetrics getDropMetrics() {
+        return dropMetrics;
+    }
+
+    public DropLedger getDropLedger() {
+        return dropLedger;
+    }
+
+    public DropSpawnQueue getDropSpawnQueue() {
+        return dropSpawnQueue;
+    }
+
+    public BlockBreakListener getBlockBreakListener() {
+        return blockBreakListener;
+    }
+
+    public ExplosionListener getExplosionListener() {
+        return explosionListener;
+    }
+
+    public VeinMinerTracker getVeinMinerTracker() {
+        return veinMinerTracker;
+    }
+
+    public PlacedBlockTracker getPlacedBlockTracker() {
+        return placedBlockTracker;
+    }
+
     public PluginLogger getPluginLogger() {
         return pluginLogger;
     }
+
+    public ConfigReloader getConfigReloader() {
+        return configReloader;
+    }
+
+    public ConfigWatcher getConfigWatcher() {
+        return configWatcher;
+    }
+
+    public SchedulerAdapter getSchedulerAdapter() {
+        return schedulerAdapter;
+    }
 }
\ No newline at end of file
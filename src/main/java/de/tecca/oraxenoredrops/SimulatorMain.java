@@ -0,0 +1,179 @@
+package de.tecca.oraxenoredrops;
+
+import de.tecca.oraxenoredrops.enums.DropMethod;
+import de.tecca.oraxenoredrops.model.CompiledDropEntry;
+import de.tecca.oraxenoredrops.model.DropEntry;
+import de.tecca.oraxenoredrops.util.DropRandom;
+import de.tecca.oraxenoredrops.util.DropSimulator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Headless drop simulator, runs without a server
+ *
+ * java -jar OraxenOreDrops.jar --entry diamond_shard:25:1:3 --entry rare_gem:0.5
+ *      [--method HYBRID|BONUS_ROLLS|DIMINISHING|ALL] [--fortune 0,3,10,25,50]
+ *      [--breaks 10000000] [--threads 8] [--seed 42] [--algorithm L64X128MixRandom]
+ *      [--rate 1200] [--fortune-table-cap 50]
+ */
+public final class SimulatorMain {
+
+    private SimulatorMain() {
+    }
+
+    public static void main(String[] args) {
+        List<DropEntry> drops = new ArrayList<>();
+        List<DropMethod> methods = List.of(DropMethod.values());
+        int[] fortunes = {0, 1, 2, 3, 5, 10, 25, 50};
+        long breaks = 10_000_000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        Long seed = null;
+        String algorithm = DropRandom.DEFAULT_ALGORITHM;
+        double breaksPerHour = 1200;
+        int fortuneTableCap = 50;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                if (arg.equals("--help") || arg.equals("-h")) {
+                    printUsage();
+                    return;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + arg);
+                }
+
+                String value = args[++i];
+                switch (arg) {
+                    case "--entry" -> drops.add(parseEntry(value));
+                    case "--method" -> methods = value.equalsIgnoreCase("ALL")
+                            ? List.of(DropMethod.values())
+                            : List.of(DropMethod.valueOf(value.toUpperCase()));
+                    case "--fortune" -> fortunes = parseLevels(value);
+                    case "--breaks" -> breaks = Long.parseLong(value.replace("_", ""));
+                    case "--threads" -> threads = Math.max(1, Integer.parseInt(value));
+                    case "--seed" -> seed = Long.parseLong(value);
+                    case "--algorithm" -> algorithm = value;
+                    case "--rate" -> breaksPerHour = Double.parseDouble(value);
+                    case "--fortune-table-cap" -> fortuneTableCap = Math.max(0, Integer.parseInt(value));
+                    default -> throw new IllegalArgumentException("Unknown option: " + arg);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+
+        if (drops.isEmpty()) {
+            printUsage();
+            System.exit(2);
+            return;
+        }
+
+        DropRandom random = DropRandom.create(algorithm, seed, Map.of());
+        System.out.printf("Simulating %,d breaks per run on %d threads (%s)%n%n", breaks, threads, random);
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        for (DropMethod method : methods) {
+            CompiledDropEntry[] entries = new CompiledDropEntry[drops.size()];
+            for (int i = 0; i < entries.length; i++) {
+                entries[i] = new CompiledDropEntry(drops.get(i), i, method, fortuneTableCap);
+            }
+
+            System.out.println("=== " + method + " ===");
+            for (int fortune : fortunes) {
+                DropSimulator.Result result = DropSimulator.run(entries, fortune, breaks, random.split(threads), pool);
+                print(result, breaksPerHour);
+            }
+            System.out.println();
+        }
+        pool.shutdown();
+    }
+
+    private static void print(DropSimulator.Result result, double breaksPerHour) {
+        System.out.printf("Fortune %d  (%.2fs, %,.0f breaks/s)%n", result.fortune(),
+                result.nanos() / 1e9, result.breaksPerSecond());
+
+        for (DropSimulator.EntryResult entry : result.entries()) {
+            long breaks = result.breaks();
+            System.out.printf("  %-24s hit %8.4f%% (exp %8.4f%%)  items/break %.5f (exp %.5f, z %+.2f)  %,.1f/h%n",
+                    entry.itemId(), entry.hitChance(breaks), entry.expectedHitChance(),
+                    entry.amountPerBreak(breaks), entry.expectedAmount(), entry.zScore(breaks),
+                    entry.amountPerBreak(breaks) * breaksPerHour);
+
+            if (entry.hits() > 0) {
+                StringBuilder amounts = new StringBuilder("    amounts:");
+                long[] histogram = entry.histogram();
+                for (int amount = 1; amount < histogram.length; amount++) {
+                    if (histogram[amount] == 0) continue;
+                    amounts.append(String.format(" %d%s=%.2f%%", amount,
+                            amount == histogram.length - 1 ? "+" : "",
+                            100.0 * histogram[amount] / entry.hits()));
+                }
+                System.out.println(amounts);
+            }
+        }
+    }
+
+    /**
+     * Parses id:chance[:min[:max]]
+     */
+    private static DropEntry parseEntry(String value) {
+        String[] parts = value.split(":");
+        if (parts.length < 2) {
+            throw new IllegalArgumentException("Entry must be id:chance[:min[:max]] - " + value);
+        }
+
+        double chance = Double.parseDouble(parts[1]);
+        int min = parts.length > 2 ? Integer.parseInt(parts[2]) : 1;
+        int max = parts.length > 3 ? Integer.parseInt(parts[3]) : min;
+
+        if (chance <= 0 || chance > 100) {
+            throw new IllegalArgumentException("Invalid chance " + chance + "% in " + value);
+        }
+        if (min < 0 || max < min) {
+            throw new IllegalArgumentException("Invalid amounts (min=" + min + ", max=" + max + ") in " + value);
+        }
+        return new DropEntry(parts[0], chance, min, max);
+    }
+
+    /**
+     * Parses 0,3,10 or 0-50
+     */
+    private static int[] parseLevels(String value) {
+        if (value.contains("-")) {
+            String[] range = value.split("-");
+            int from = Integer.parseInt(range[0]);
+            int to = Integer.parseInt(range[1]);
+            int[] levels = new int[Math.max(0, to - from + 1)];
+            for (int i = 0; i < levels.length; i++) {
+                levels[i] = from + i;
+            }
+            return levels;
+        }
+
+        String[] parts = value.split(",");
+        int[] levels = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            levels[i] = Integer.parseInt(parts[i].trim());
+        }
+        return levels;
+    }
+
+    private static void printUsage() {
+        System.out.println("Usage: java -jar OraxenOreDrops.jar --entry <id:chance[:min[:max]]> [--entry ...]");
+        System.out.println("  --method <HYBRID|BONUS_ROLLS|DIMINISHING|ALL>  default ALL");
+        System.out.println("  --fortune <0,3,10 | 0-50>                      default 0,1,2,3,5,10,25,50");
+        System.out.println("  --breaks <n>                                   default 10000000");
+        System.out.println("  --threads <n>                                  default: all cores");
+        System.out.println("  --seed <n>                                     fixed seed for reproducible runs");
+        System.out.println("  --algorithm <name>                             default " + DropRandom.DEFAULT_ALGORITHM);
+        System.out.println("  --rate <breaks/hour>                           default 1200, for the items/hour column");
+        System.out.println("  --fortune-table-cap <n>                        default 50");
+    }
+}
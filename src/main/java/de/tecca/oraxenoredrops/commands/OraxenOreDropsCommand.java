@@ -1,6 +1,16 @@
 package de.tecca.oraxenoredrops.commands;
 
 import de.tecca.oraxenoredrops.OraxenOreDrops;
+import de.tecca.oraxenoredrops.enums.DropMethod;
+import de.tecca.oraxenoredrops.managers.DropLedger;
+import de.tecca.oraxenoredrops.managers.DropMetrics;
+import de.tecca.oraxenoredrops.model.CompiledDropEntry;
+import de.tecca.oraxenoredrops.model.CompiledDropTable;
+import de.tecca.oraxenoredrops.model.DropReport;
+import de.tecca.oraxenoredrops.util.AEAPIUtil;
+import de.tecca.oraxenoredrops.util.DropSimulator;
+import de.tecca.oraxenoredrops.util.LatencyHistogram;
+import org.bukkit.Material;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -8,13 +18,26 @@ import org.bukkit.command.TabCompleter;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 
 public class OraxenOreDropsCommand implements CommandExecutor, TabCompleter {
 
     private final OraxenOreDrops plugin;
 
+    // One simulation at a time, it uses all cores
+    private final AtomicBoolean simulationRunning = new AtomicBoolean();
+
     public OraxenOreDropsCommand(OraxenOreDrops plugin) {
         this.plugin = plugin;
     }
@@ -40,6 +63,18 @@ public class OraxenOreDropsCommand implements CommandExecutor, TabCompleter {
             case "info":
                 return handleInfo(sender);
 
+            case "stats":
+                return handleStats(sender, args);
+
+            case "ledger":
+                return handleLedger(sender, args);
+
+            case "simulate":
+                return handleSimulate(sender, args);
+
+            case "report":
+                return handleReport(sender, args);
+
             default:
                 sender.sendMessage("§cUnknown command. Use /oraxenoredrops help");
                 return true;
@@ -52,26 +87,31 @@ public class OraxenOreDropsCommand implements CommandExecutor, TabCompleter {
             return true;
         }
 
-        sender.sendMessage("§e[OraxenOreDrops] §7Reloading config...");
-
-        try {
-            // Reload config
-            plugin.reloadConfig();
-
-            // Reload BlockDropManager
-            plugin.getBlockDropManager().reload();
-
-            sender.sendMessage("§a[OraxenOreDrops] §7Config successfully reloaded!");
-            sender.sendMessage("§7Drop method: §e" + plugin.getBlockDropManager().getDropMethod());
-            sender.sendMessage("§7Debug mode: §e" + plugin.getConfig().getBoolean("debug-mode", false));
-
-        } catch (Exception e) {
-            sender.sendMessage("§c[OraxenOreDrops] Error during reload: " + e.getMessage());
-            plugin.getPluginLogger().severe("Reload error: " + e.getMessage());
-            e.printStackTrace();
+        if (plugin.getBlockDropManager().isWarming()) {
+            sender.sendMessage("§c[OraxenOreDrops] Still warming up - " +
+                    "drop tables are built once Oraxen's items are loaded");
             return true;
         }
 
+        // Parsing and compiling run off the main thread, the old table serves breaks until then
+        boolean started = plugin.getConfigReloader().reload(false,
+                message -> plugin.getSchedulerAdapter().runFor(sender,
+                        () -> sender.sendMessage("§e[OraxenOreDrops] §7" + message)),
+                success -> plugin.getSchedulerAdapter().runFor(sender, () -> {
+                    if (!success) {
+                        sender.sendMessage("§c[OraxenOreDrops] Reload failed, the previous config stays active");
+                        return;
+                    }
+                    sender.sendMessage("§a[OraxenOreDrops] §7Config successfully reloaded!");
+                    sender.sendMessage("§7Drop method: §e" + plugin.getBlockDropManager().getDropMethod());
+                    sender.sendMessage("§7Debug mode: §e" + plugin.getConfig().getBoolean("debug-mode", false));
+                }));
+
+        if (started) {
+            sender.sendMessage("§e[OraxenOreDrops] §7Reloading config...");
+        } else {
+            sender.sendMessage("§c[OraxenOreDrops] A reload is already running!");
+        }
         return true;
     }
 
@@ -110,19 +150,393 @@ public class OraxenOreDropsCommand implements CommandExecutor, TabCompleter {
 
         sender.sendMessage("§e=== OraxenOreDrops Info ===");
         sender.sendMessage("§7Version: §f" + plugin.getDescription().getVersion());
+        sender.sendMessage("§7Drop table: " + (plugin.getBlockDropManager().isWarming()
+                ? "§ewarming up (waiting for Oraxen items)"
+                : "§aready §7(" + plugin.getBlockDropManager().getTable().getEntryCount() + " drops for " +
+                plugin.getBlockDropManager().getTable().getBlockCount() + " blocks)"));
         sender.sendMessage("§7Drop method: §f" + plugin.getBlockDropManager().getDropMethod());
+        sender.sendMessage("§7Delivery mode: §f" + plugin.getBlockDropManager().getDeliveryMode());
+        sender.sendMessage("§7Random: §f" + plugin.getBlockDropManager().getRandom());
         sender.sendMessage("§7Debug mode: §f" + plugin.getConfig().getBoolean("debug-mode", false));
+        sender.sendMessage("§7Hot reload: §f" + (plugin.getConfigWatcher().isRunning() ? "§aActive" : "§cInactive"));
         sender.sendMessage("§7AdvancedEnchantments: §f" +
-                (de.tecca.oraxenoredrops.util.AEAPIUtil.isAvailable() ? "§aActive" : "§cInactive"));
+                (AEAPIUtil.isAvailable() ? "§aActive" : "§cInactive"));
+
+        if (AEAPIUtil.isAvailable()) {
+            for (AEAPIUtil.Capability capability : AEAPIUtil.Capability.values()) {
+                sender.sendMessage("§7  " + capability.name().toLowerCase() + ": " +
+                        (AEAPIUtil.hasCapability(capability) ? "§aavailable" : "§cmissing"));
+            }
+        }
+
+        return true;
+    }
+
+    private boolean handleStats(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("oraxenoredrops.stats")) {
+            sender.sendMessage("§cNo permission!");
+            return true;
+        }
+
+        DropMetrics metrics = plugin.getDropMetrics();
+
+        if (args.length >= 2 && args[1].equalsIgnoreCase("reset")) {
+            metrics.reset();
+            sender.sendMessage("§e[OraxenOreDrops] §7Metrics reset");
+            return true;
+        }
+
+        if (!metrics.isEnabled()) {
+            sender.sendMessage("§e[OraxenOreDrops] §7Metrics are disabled (metrics.enabled)");
+            return true;
+        }
+
+        long seconds = Math.max(1, (System.currentTimeMillis() - metrics.getResetAt()) / 1000);
+        LatencyHistogram latency = metrics.getBreakLatency();
+
+        sender.sendMessage("§e=== OraxenOreDrops Stats §7(" + seconds + "s) §e===");
+        sender.sendMessage("§7Breaks: §f" + metrics.getBreaksSeen() +
+                " §7(fast-rejected: §f" + metrics.getFastRejects() + "§7)");
+        sender.sendMessage("§7Rolls: §f" + metrics.getRolls() + " §7Hits: §f" + metrics.getHits() +
+                " §7Items: §f" + metrics.getItemsDropped());
+        sender.sendMessage(String.format("§7Break latency: §fp50 %s §7| §fp99 %s §7| §fp99.9 %s §7| §fmax %s",
+                formatNanos(latency.percentile(50)), formatNanos(latency.percentile(99)),
+                formatNanos(latency.percentile(99.9)), formatNanos(latency.max())));
+
+        sender.sendMessage("§7Top blocks:");
+        metrics.getMaterialCounters().stream().limit(5).forEach(e ->
+                sender.sendMessage("§7  " + e.getKey() + ": §f" + e.getValue().rolls() + " §7rolls, §f" +
+                        e.getValue().hits() + " §7hits, §f" + e.getValue().items() + " §7items"));
+
+        sender.sendMessage("§7Top items:");
+        metrics.getItemCounters().stream().limit(5).forEach(e ->
+                sender.sendMessage("§7  " + e.getKey() + ": §f" + e.getValue().items() +
+                        " §7items in §f" + e.getValue().hits() + " §7drops"));
+
+        return true;
+    }
+
+    private boolean handleLedger(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("oraxenoredrops.ledger")) {
+            sender.sendMessage("§cNo permission!");
+            return true;
+        }
+
+        DropLedger ledger = plugin.getDropLedger();
+
+        if (!ledger.isEnabled()) {
+            sender.sendMessage("§e[OraxenOreDrops] §7The drop ledger is disabled (ledger.enabled)");
+            return true;
+        }
+
+        if (args.length < 2 || !args[1].equalsIgnoreCase("query")) {
+            sender.sendMessage("§e=== OraxenOreDrops Ledger ===");
+            sender.sendMessage("§7Recorded: §f" + ledger.getRecorded() + " §7Written: §f" + ledger.getWritten() +
+                    " §7Queued: §f" + ledger.getQueued());
+            sender.sendMessage("§7Lost (buffer full): §f" + ledger.getDropped());
+            sender.sendMessage("§7Use: /oraxenoredrops ledger query [player:<name>] [item:<id>] [block:<type>] [limit:<n>]");
+            return true;
+        }
+
+        // Parse the filters
+        Predicate<DropLedger.Entry> filter = entry -> true;
+        int limit = 10;
+
+        for (int i = 2; i < args.length; i++) {
+            int colon = args[i].indexOf(':');
+            if (colon < 0) {
+                sender.sendMessage("§cInvalid filter: " + args[i]);
+                return true;
+            }
+
+            String key = args[i].substring(0, colon).toLowerCase();
+            String value = args[i].substring(colon + 1);
+
+            switch (key) {
+                case "player":
+                    filter = filter.and(entry -> value.equalsIgnoreCase(entry.playerName()));
+                    break;
+                case "item":
+                    filter = filter.and(entry -> value.equalsIgnoreCase(entry.itemId()));
+                    break;
+                case "block":
+                    filter = filter.and(entry -> value.equalsIgnoreCase(entry.material()));
+                    break;
+                case "limit":
+                    try {
+                        limit = Math.max(1, Math.min(100, Integer.parseInt(value)));
+                    } catch (NumberFormatException e) {
+                        sender.sendMessage("§cInvalid limit: " + value);
+                        return true;
+                    }
+                    break;
+                default:
+                    sender.sendMessage("§cUnknown filter: " + key);
+                    return true;
+            }
+        }
+
+        sender.sendMessage("§e[OraxenOreDrops] §7Searching the ledger...");
+
+        // File scan runs off the server threads, the result is sent back on the sender's
+        Predicate<DropLedger.Entry> query = filter;
+        int max = limit;
+        plugin.getSchedulerAdapter().runAsync(() -> {
+            List<String> lines = new ArrayList<>();
+            try {
+                List<DropLedger.Entry> entries = ledger.query(query, max);
+                SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+
+                lines.add("§e=== Ledger §7(" + entries.size() + " newest) §e===");
+                for (DropLedger.Entry entry : entries) {
+                    lines.add("§7" + format.format(new Date(entry.time())) + " §f" +
+                            (entry.playerName() != null ? entry.playerName() : "-") +
+                            " §7got §f" + entry.amount() + "x " + entry.itemId() +
+                            " §7from §f" + entry.material() + " §7(Fortune " + entry.fortune() + ", " +
+                            entry.world() + " " + entry.x() + "/" + entry.y() + "/" + entry.z() + ")");
+                }
+            } catch (IOException e) {
+                lines.add("§c[OraxenOreDrops] Could not read the ledger: " + e.getMessage());
+            }
+
+            plugin.getSchedulerAdapter().runFor(sender, () -> lines.forEach(sender::sendMessage));
+        });
+
+        return true;
+    }
+
+    private boolean handleSimulate(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("oraxenoredrops.simulate")) {
+            sender.sendMessage("§cNo permission!");
+            return true;
+        }
+
+        if (args.length < 4) {
+            sender.sendMessage("§7Use: /oraxenoredrops simulate <block> <fortune> <breaks> [method]");
+            return true;
+        }
+
+        Material material = Material.matchMaterial(args[1]);
+        if (material == null) {
+            sender.sendMessage("§cUnknown block: " + args[1]);
+            return true;
+        }
+
+        int fortune;
+        long breaks;
+        try {
+            fortune = Math.max(0, Integer.parseInt(args[2]));
+            breaks = Long.parseLong(args[3].replace("_", ""));
+        } catch (NumberFormatException e) {
+            sender.sendMessage("§cFortune and breaks must be numbers");
+            return true;
+        }
+
+        long maxBreaks = plugin.getConfig().getLong("simulation.max-breaks", 100_000_000L);
+        if (breaks <= 0 || breaks > maxBreaks) {
+            sender.sendMessage("§cBreaks must be between 1 and " + maxBreaks);
+            return true;
+        }
+
+        CompiledDropTable table = plugin.getBlockDropManager().getTable();
+        if (args.length >= 5) {
+            try {
+                DropMethod method = DropMethod.valueOf(args[4].toUpperCase());
+                if (method != table.getDropMethod()) {
+                    table = table.withDropMethod(method);
+                }
+            } catch (IllegalArgumentException e) {
+                sender.sendMessage("§cUnknown drop method: " + args[4]);
+                return true;
+            }
+        }
+
+        CompiledDropEntry[] entries = table.getEntries(material);
+        if (entries.length == 0) {
+            sender.sendMessage("§e[OraxenOreDrops] §7" + material + " has no drops configured");
+            return true;
+        }
+
+        if (!simulationRunning.compareAndSet(false, true)) {
+            sender.sendMessage("§c[OraxenOreDrops] A simulation is already running");
+            return true;
+        }
+
+        int workers = ForkJoinPool.getCommonPoolParallelism();
+        double breaksPerHour = plugin.getConfig().getDouble("simulation.breaks-per-hour", 1200);
+        DropMethod method = table.getDropMethod();
+
+        sender.sendMessage(String.format("§e[OraxenOreDrops] §7Simulating %,d breaks of %s (Fortune %d, %s)...",
+                breaks, material, fortune, method));
+
+        // Runs on the common fork-join pool, never on the main thread
+        plugin.getSchedulerAdapter().runAsync(() -> {
+            List<String> lines = new ArrayList<>();
+            try {
+                DropSimulator.Result result = DropSimulator.run(entries, fortune, breaks,
+                        plugin.getBlockDropManager().getRandom().split(workers));
+
+                lines.add(String.format("§e=== Simulation §7%s, Fortune %d, %s §e===",
+                        material, fortune, method));
+                lines.add(String.format("§7%,d breaks in §f%.2fs §7(%,.0f/s, %d workers)",
+                        result.breaks(), result.nanos() / 1e9, result.breaksPerSecond(), result.workers()));
+
+                for (DropSimulator.EntryResult entry : result.entries()) {
+                    lines.add(String.format("§f%s §7(%s%%): hit §f%.4f%% §7(exp %.4f%%), §f%.5f§7/break " +
+                                    "(exp %.5f, z %+.2f), §f%,.1f§7/h",
+                            entry.itemId(), entry.baseChance(),
+                            entry.hitChance(result.breaks()), entry.expectedHitChance(),
+                            entry.amountPerBreak(result.breaks()), entry.expectedAmount(),
+                            entry.zScore(result.breaks()), entry.amountPerBreak(result.breaks()) * breaksPerHour));
+
+                    if (entry.hits() > 0) {
+                        StringBuilder amounts = new StringBuilder("§7  amounts:");
+                        long[] histogram = entry.histogram();
+                        for (int amount = 1; amount < histogram.length; amount++) {
+                            if (histogram[amount] == 0) continue;
+                            amounts.append(String.format(" §f%d%s§7=%.1f%%", amount,
+                                    amount == histogram.length - 1 ? "+" : "",
+                                    100.0 * histogram[amount] / entry.hits()));
+                        }
+                        lines.add(amounts.toString());
+                    }
+                }
+            } catch (RuntimeException e) {
+                lines.add("§c[OraxenOreDrops] Simulation failed: " + e.getMessage());
+                plugin.getPluginLogger().severe("Simulation error: " + e.getMessage());
+            } finally {
+                simulationRunning.set(false);
+            }
+
+            plugin.getSchedulerAdapter().runFor(sender, () -> lines.forEach(sender::sendMessage));
+        });
+
+        return true;
+    }
+
+    private boolean handleReport(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("oraxenoredrops.report")) {
+            sender.sendMessage("§cNo permission!");
+            return true;
+        }
+
+        DropReport report = plugin.getBlockDropManager().getReport();
+        String action = args.length >= 2 ? args[1].toLowerCase() : "";
+
+        switch (action) {
+            case "show":
+                return handleReportShow(sender, args, report);
+
+            case "csv":
+            case "json":
+                break;
+
+            default:
+                sender.sendMessage("§e=== OraxenOreDrops Report ===");
+                sender.sendMessage("§7Rows: §f" + report.getRows().size() + " §7(Fortune 0-" +
+                        report.getMaxFortune() + ", all methods)");
+                sender.sendMessage(String.format("§7Computed in §f%.2fms", report.getBuildNanos() / 1e6));
+                sender.sendMessage("§7Use: /oraxenoredrops report show <block> [fortune] [method]");
+                sender.sendMessage("§7Use: /oraxenoredrops report <csv|json>");
+                return true;
+        }
+
+        String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        File file = new File(new File(plugin.getDataFolder(), "reports"), "drop-report-" + stamp + "." + action);
+
+        // File I/O off the main thread, the report itself is immutable
+        plugin.getSchedulerAdapter().runAsync(() -> {
+            String message;
+            try {
+                Files.createDirectories(file.getParentFile().toPath());
+                try (Writer out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+                    if (action.equals("csv")) {
+                        report.writeCsv(out);
+                    } else {
+                        report.writeJson(out);
+                    }
+                }
+                message = "§a[OraxenOreDrops] §7Report written to §f" + file.getPath();
+            } catch (IOException e) {
+                message = "§c[OraxenOreDrops] Could not write the report: " + e.getMessage();
+            }
+
+            String result = message;
+            plugin.getSchedulerAdapter().runFor(sender, () -> sender.sendMessage(result));
+        });
+
+        return true;
+    }
+
+    private boolean handleReportShow(CommandSender sender, String[] args, DropReport report) {
+        if (args.length < 3) {
+            sender.sendMessage("§7Use: /oraxenoredrops report show <block> [fortune] [method]");
+            return true;
+        }
+
+        Material material = Material.matchMaterial(args[2]);
+        if (material == null) {
+            sender.sendMessage("§cUnknown block: " + args[2]);
+            return true;
+        }
+
+        int fortune = 0;
+        if (args.length >= 4) {
+            try {
+                fortune = Integer.parseInt(args[3]);
+            } catch (NumberFormatException e) {
+                sender.sendMessage("§cInvalid fortune: " + args[3]);
+                return true;
+            }
+        }
+        if (fortune < 0 || fortune > report.getMaxFortune()) {
+            sender.sendMessage("§cFortune must be between 0 and " + report.getMaxFortune() + " (report.max-fortune)");
+            return true;
+        }
+
+        DropMethod method = report.getTable().getDropMethod();
+        if (args.length >= 5) {
+            try {
+                method = DropMethod.valueOf(args[4].toUpperCase());
+            } catch (IllegalArgumentException e) {
+                sender.sendMessage("§cUnknown drop method: " + args[4]);
+                return true;
+            }
+        }
+
+        List<DropReport.Row> rows = report.getRows(material, method, fortune);
+        if (rows.isEmpty()) {
+            sender.sendMessage("§e[OraxenOreDrops] §7" + material + " has no drops configured");
+            return true;
+        }
+
+        double breaksPerHour = plugin.getConfig().getDouble("simulation.breaks-per-hour", 1200);
+
+        sender.sendMessage("§e=== " + material + " §7Fortune " + fortune + ", " + method + " §e===");
+        for (DropReport.Row row : rows) {
+            sender.sendMessage(String.format("§f%s §7(%s%%): P(≥1) §f%.4f%%§7, mean §f%.5f §7± %.5f/break, §f%,.1f§7/h",
+                    row.itemId(), row.baseChance(), row.hitChance(), row.mean(), row.standardDeviation(),
+                    row.mean() * breaksPerHour));
+        }
 
         return true;
     }
 
+    private static String formatNanos(long nanos) {
+        if (nanos >= 1_000_000) return String.format("%.2fms", nanos / 1_000_000.0);
+        if (nanos >= 1_000) return String.format("%.1fµs", nanos / 1_000.0);
+        return nanos + "ns";
+    }
+
     private void sendHelp(CommandSender sender) {
         sender.sendMessage("§e=== OraxenOreDrops Commands ===");
         sender.sendMessage("§7/oraxenoredrops reload §f- Reload config");
         sender.sendMessage("§7/oraxenoredrops debug <on|off> §f- Toggle debug mode");
         sender.sendMessage("§7/oraxenoredrops info §f- Plugin information");
+        sender.sendMessage("§7/oraxenoredrops stats [reset] §f- Drop metrics");
+        sender.sendMessage("§7/oraxenoredrops ledger [query ...] §f- Search the drop ledger");
+        sender.sendMessage("§7/oraxenoredrops simulate <block> <fortune> <breaks> [method] §f- Simulate drop rates");
+        sender.sendMessage("§7/oraxenoredrops report [show|csv|json] §f- Analytic drop rates");
     }
 
     @Override
@@ -134,10 +548,49 @@ public class OraxenOreDropsCommand implements CommandExecutor, TabCompleter {
             if (sender.hasPermission("oraxenoredrops.reload")) completions.add("reload");
             if (sender.hasPermission("oraxenoredrops.debug")) completions.add("debug");
             if (sender.hasPermission("oraxenoredrops.info")) completions.add("info");
+            if (sender.hasPermission("oraxenoredrops.stats")) completions.add("stats");
+            if (sender.hasPermission("oraxenoredrops.ledger")) completions.add("ledger");
+            if (sender.hasPermission("oraxenoredrops.simulate")) completions.add("simulate");
+            if (sender.hasPermission("oraxenoredrops.report")) completions.add("report");
             completions.add("help");
         } else if (args.length == 2 && args[0].equalsIgnoreCase("debug")) {
             completions.add("on");
             completions.add("off");
+        } else if (args.length == 2 && args[0].equalsIgnoreCase("stats")) {
+            completions.add("reset");
+        } else if (args.length == 2 && args[0].equalsIgnoreCase("simulate")) {
+            for (Material material : plugin.getBlockDropManager().getTable().getSources().keySet()) {
+                completions.add(material.name());
+            }
+        } else if (args.length == 3 && args[0].equalsIgnoreCase("simulate")) {
+            completions.add("0");
+            completions.add("3");
+            completions.add("10");
+        } else if (args.length == 4 && args[0].equalsIgnoreCase("simulate")) {
+            completions.add("1000000");
+        } else if (args.length == 5 && args[0].equalsIgnoreCase("simulate")) {
+            for (DropMethod method : DropMethod.values()) {
+                completions.add(method.name());
+            }
+        } else if (args.length == 2 && args[0].equalsIgnoreCase("report")) {
+            completions.add("show");
+            completions.add("csv");
+            completions.add("json");
+        } else if (args.length == 3 && args[0].equalsIgnoreCase("report") && args[1].equalsIgnoreCase("show")) {
+            for (Material material : plugin.getBlockDropManager().getTable().getSources().keySet()) {
+                completions.add(material.name());
+            }
+        } else if (args.length == 5 && args[0].equalsIgnoreCase("report") && args[1].equalsIgnoreCase("show")) {
+            for (DropMethod method : DropMethod.values()) {
+                completions.add(method.name());
+            }
+        } else if (args.length == 2 && args[0].equalsIgnoreCase("ledger")) {
+            completions.add("query");
+        } else if (args.length > 2 && args[0].equalsIgnoreCase("ledger")) {
+            completions.add("player:");
+            completions.add("item:");
+            completions.add("block:");
+            completions.add("limit:");
         }
 
         return completions;
@@ -0,0 +1,7 @@
+package de.tecca.oraxenoredrops.enums;
+
+public enum DeliveryMode {
+    WORLD,                  // Spawn drops as item entities
+    INVENTORY,              // Put drops into the inventory, overflow is lost
+    INVENTORY_THEN_WORLD    // Put drops into the inventory, spawn the overflow
+}
@@ -0,0 +1,7 @@
+package de.tecca.oraxenoredrops.enums;
+
+public enum SpawnMode {
+    IMMEDIATE,      // One dropItemNaturally per drop (vanilla behaviour)
+    PER_TICK,       // Merge per location cell, spawn at the end of the tick
+    PER_N_TICKS     // Merge per location cell, spawn every flush-interval ticks
+}
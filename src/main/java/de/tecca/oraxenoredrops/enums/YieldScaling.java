@@ -0,0 +1,7 @@
+package de.tecca.oraxenoredrops.enums;
+
+public enum YieldScaling {
+    NONE,   // Every exploded block is rolled
+    EVENT,  // Each block is rolled with the explosion's yield (vanilla TNT: 1/power)
+    FIXED   // Each block is rolled with explosions.fixed-yield
+}
@@ -1,36 +1,86 @@
 package de.tecca.oraxenoredrops.listeners;
 
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
 import de.tecca.oraxenoredrops.OraxenOreDrops;
-import de.tecca.oraxenoredrops.util.EnchantmentHelper;
+import de.tecca.oraxenoredrops.enums.DeliveryMode;
+import de.tecca.oraxenoredrops.managers.BlockDropManager;
+import de.tecca.oraxenoredrops.managers.DropLedger;
+import de.tecca.oraxenoredrops.managers.DropMetrics;
+import de.tecca.oraxenoredrops.managers.PlacedBlockTracker;
+import de.tecca.oraxenoredrops.managers.VeinMinerTracker;
+import de.tecca.oraxenoredrops.model.CompiledDropTable;
+import de.tecca.oraxenoredrops.model.DropBuffer;
+import de.tecca.oraxenoredrops.model.EnchantProfile;
+import de.tecca.oraxenoredrops.util.SchedulerAdapter;
+import org.bukkit.Location;
+import org.bukkit.Material;
 import org.bukkit.block.Block;
+import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockDropItemEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitRunnable;
 
-import java.util.List;
+import java.util.Arrays;
 import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 public class BlockBreakListener implements Listener {
 
+    private static final BuiltDrops NO_DROPS = new BuiltDrops(new ItemStack[0], new String[0]);
+
     private final OraxenOreDrops plugin;
-    private final Map<UUID, VeinMinerSession> veinMinerSessions = new ConcurrentHashMap<>();
-    private BukkitRunnable cleanupTask;
-    private boolean debugMode;
+    private final BlockDropManager dropManager;
+    private final DropMetrics metrics;
+    private final DropLedger ledger;
+    private final VeinMinerTracker veinMinerTracker;
+    private final PlacedBlockTracker placedBlocks;
+    private final VeinMinerTracker.BatchHandler batchHandler = this::rollBatch;
+    private final ThreadLocal<DropBuffer> dropBuffer = ThreadLocal.withInitial(DropBuffer::new); // Reused per break
+
+    // Folia: breaks arrive on many region threads, batches are rolled right away
+    private final boolean regionized;
+    // Written by reload() on the main thread (global region), read by region threads
+    private volatile boolean debugMode;
+    private volatile int sampleRate;
+    private volatile int fortunePenalty;
+    private volatile boolean mergeIntoVanillaDrops;
+
+    // Drops of the current break waiting for its BlockDropItemEvent
+    private Block pendingBlock;
+    private ItemStack[] pendingDrops;
 
     public BlockBreakListener(OraxenOreDrops plugin) {
         this.plugin = plugin;
-        this.debugMode = plugin.getConfig().getBoolean("debug-mode", false);
-        startCleanupTask();
+        this.dropManager = plugin.getBlockDropManager();
+        this.metrics = plugin.getDropMetrics();
+        this.ledger = plugin.getDropLedger();
+        this.veinMinerTracker = plugin.getVeinMinerTracker();
+        this.placedBlocks = plugin.getPlacedBlockTracker();
+        this.regionized = plugin.getSchedulerAdapter().isRegionized();
+        reload();
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onBlockBreak(BlockBreakEvent event) {
+        // Fast reject - most broken blocks have no drops configured
+        if (!dropManager.hasDrops(event.getBlock().getType())) {
+            metrics.recordFastReject();
+            return;
+        }
+        metrics.recordBreaksSeen(1);
+
+        long start = System.nanoTime();
+        try {
+            handleBreak(event);
+        } finally {
+            metrics.recordLatency(System.nanoTime() - start);
+        }
+    }
+
+    private void handleBreak(BlockBreakEvent event) {
         Block block = event.getBlock();
         Player player = event.getPlayer();
 
@@ -41,10 +91,20 @@ public class BlockBreakListener implements Listener {
             plugin.getPluginLogger().info("Player: " + player.getName());
         }
 
-        ItemStack tool = player.getInventory().getItemInMainHand();
+        // Player-placed blocks give no custom drops (place/break farming)
+        if (placedBlocks.consumePlaced(block)) {
+            if (debugMode) {
+                plugin.getPluginLogger().info("Placed by a player - no custom drops");
+                plugin.getPluginLogger().info("==================");
+            }
+            return;
+        }
+
+        // Resolved once per held tool, not per block
+        EnchantProfile enchants = plugin.getEnchantProfileCache().get(player);
 
         // Silk Touch check - no custom drops
-        if (EnchantmentHelper.hasSilkTouch(tool)) {
+        if (enchants.silkTouch()) {
             if (debugMode) {
                 plugin.getPluginLogger().info("Silk Touch active - no custom drops");
                 plugin.getPluginLogger().info("==================");
@@ -52,48 +112,48 @@ public class BlockBreakListener implements Listener {
             return;
         }
 
-        int fortuneLevel = EnchantmentHelper.getFortuneLevel(tool);
-
-        // VeinMiner detection
-        VeinMinerSession session = getOrCreateSession(player);
-        boolean isVeinMining = session.isVeinMining();
-
-        int effectiveFortune = fortuneLevel;
-
-        if (isVeinMining) {
-            effectiveFortune = Math.max(0, fortuneLevel - 5);
-            session.incrementBlocks();
+        int fortuneLevel = enchants.fortune();
 
-            // Only every 5th block
-            if (session.getBlocksMinedThisSession() % 5 != 0) {
-                if (debugMode) {
-                    plugin.getPluginLogger().info("VeinMiner Skip (" +
-                            session.getBlocksMinedThisSession() + "/5)");
-                }
+        // VeinMiner detection - further breaks in the same tick are a batch,
+        // rolled together at the end of the tick
+        VeinMinerTracker.Session session = veinMinerTracker.recordBreak(player);
+        if (session.isVeinMining()) {
+            if (regionized) {
+                // No tick end on Folia - rolled right away, still sampled
+                rollBatch(session, player, block.getLocation(), fortuneLevel, block.getType(), 1);
                 return;
             }
-
+            veinMinerTracker.addToBatch(session, player, block.getLocation(), fortuneLevel, block.getType());
             if (debugMode) {
-                plugin.getPluginLogger().info("VeinMiner: Fortune " +
-                        fortuneLevel + " → " + effectiveFortune);
+                plugin.getPluginLogger().info("VeinMiner: batched (" + session.getBreaksThisTick() + " this tick)");
+                plugin.getPluginLogger().info("==================");
             }
+            return;
         }
 
-        // Get custom drops (via BlockDropManager)
-        List<ItemStack> customDrops = plugin.getBlockDropManager()
-                .getDrops(block.getType(), effectiveFortune);
+        // Roll custom drops (via BlockDropManager)
+        // One table for rolling and resolving - a reload may publish a new one meanwhile
+        CompiledDropTable table = dropManager.getTable();
+        DropBuffer customDrops = dropBuffer.get();
+        customDrops.clear();
+        dropManager.rollInto(table, block.getType(), fortuneLevel, customDrops, block.getWorld());
+        metrics.recordBreak(block.getType());
 
-        // Drop items
-        if (!customDrops.isEmpty()) {
-            for (ItemStack drop : customDrops) {
-                if (debugMode) {
-                    String name = drop.hasItemMeta() && drop.getItemMeta().hasDisplayName()
-                            ? drop.getItemMeta().getDisplayName()
-                            : drop.getType().toString();
-                    plugin.getPluginLogger().info("  → Drop: " + drop.getType() +
-                            " x" + drop.getAmount() + " (" + name + ")");
+        Location location = block.getLocation();
+        BuiltDrops drops = buildDrops(table, block.getType(), customDrops);
+        if (drops.stacks().length > 0) {
+            if (mergeIntoVanillaDrops && !regionized && event.isDropItems()
+                    && dropManager.getDeliveryMode() == DeliveryMode.WORLD) {
+                // Delivered by onBlockDropItem, merged into the vanilla drops - nothing is discarded
+                for (int i = 0; i < drops.stacks().length; i++) {
+                    record(player, location, block.getType(), fortuneLevel, drops.itemIds()[i],
+                            drops.stacks()[i].getAmount());
                 }
-                block.getWorld().dropItemNaturally(block.getLocation(), drop);
+                flushPendingDrops();
+                pendingBlock = block;
+                pendingDrops = drops.stacks();
+            } else {
+                deliverAndRecord(player, player, location, block.getType(), fortuneLevel, drops);
             }
         }
 
@@ -102,71 +162,211 @@ public class BlockBreakListener implements Listener {
         }
     }
 
-    private VeinMinerSession getOrCreateSession(Player player) {
-        UUID uuid = player.getUniqueId();
+    /**
+     * Merges the pending custom drops into the vanilla Item entities of the break
+     *
+     * Custom drops similar to a vanilla drop are added to its stack, only the
+     * rest is spawned (merged) through the drop spawn queue.
+     */
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onBlockDropItem(BlockDropItemEvent event) {
+        if (pendingBlock == null) {
+            return;
+        }
+        if (!pendingBlock.equals(event.getBlock())) {
+            flushPendingDrops();
+            return;
+        }
+
+        Block block = pendingBlock;
+        ItemStack[] drops = pendingDrops;
+        pendingBlock = null;
+        pendingDrops = null;
 
-        return veinMinerSessions.compute(uuid, (key, existing) -> {
-            if (existing == null || existing.isExpired()) {
-                return new VeinMinerSession();
+        int remaining = drops.length;
+        if (!event.isCancelled()) {
+            for (Item item : event.getItems()) {
+                ItemStack stack = item.getItemStack();
+                boolean changed = false;
+
+                for (ItemStack drop : drops) {
+                    int space = stack.getMaxStackSize() - stack.getAmount();
+                    if (space <= 0) break;
+                    if (drop.getAmount() == 0 || !stack.isSimilar(drop)) continue;
+
+                    int moved = Math.min(space, drop.getAmount());
+                    stack.setAmount(stack.getAmount() + moved);
+                    drop.setAmount(drop.getAmount() - moved);
+                    if (drop.getAmount() == 0) remaining--;
+                    changed = true;
+                }
+
+                if (changed) {
+                    item.setItemStack(stack);
+                }
             }
-            existing.update();
-            return existing;
-        });
+        }
+
+        if (remaining > 0) {
+            dropManager.deliver(null, block.getLocation(), Arrays.stream(drops)
+                    .filter(drop -> drop.getAmount() > 0)
+                    .toArray(ItemStack[]::new));
+        }
     }
 
-    private void startCleanupTask() {
-        cleanupTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                veinMinerSessions.entrySet().removeIf(e -> e.getValue().isExpired());
-            }
-        };
-        cleanupTask.runTaskTimerAsynchronously(plugin, 600L, 600L);
+    /**
+     * Delivers drops whose BlockDropItemEvent never came (e.g. no vanilla drops)
+     */
+    private void flushPendingDrops() {
+        if (pendingBlock == null) {
+            return;
+        }
+        dropManager.deliver(null, pendingBlock.getLocation(), pendingDrops);
+        pendingBlock = null;
+        pendingDrops = null;
     }
 
-    public void setDebugMode(boolean enabled) {
-        this.debugMode = enabled;
+    @EventHandler(priority = EventPriority.NORMAL)
+    public void onTickEnd(ServerTickEndEvent event) {
+        flushPendingDrops();
+        veinMinerTracker.drainBatches(batchHandler);
     }
 
-    public void shutdown() {
-        if (cleanupTask != null) {
-            cleanupTask.cancel();
+    /**
+     * Rolls the vein-mined blocks of one material in one aggregated draw
+     */
+    private void rollBatch(VeinMinerTracker.Session session, Player player, Location location,
+                           int fortuneLevel, Material material, int blocks) {
+        int rolled = session.takeSampled(blocks, sampleRate);
+        int effectiveFortune = Math.max(0, fortuneLevel - fortunePenalty);
+        metrics.recordBulk(material, blocks, rolled);
+
+        if (debugMode) {
+            plugin.getPluginLogger().info("=== VeinMiner batch ===");
+            plugin.getPluginLogger().info("Block: " + material + " x" + blocks + " → rolled " + rolled +
+                    ", Fortune " + fortuneLevel + " → " + effectiveFortune);
+        }
+
+        if (rolled > 0) {
+            CompiledDropTable table = dropManager.getTable();
+            DropBuffer customDrops = dropBuffer.get();
+            customDrops.clear();
+            dropManager.rollBulkInto(table, material, rolled, effectiveFortune, customDrops, location.getWorld());
+
+            BuiltDrops drops = buildDrops(table, material, customDrops);
+
+            // Player may have left during the tick
+            deliverAndRecord(player, player.isOnline() ? player : null, location, material,
+                    effectiveFortune, drops);
+        }
+
+        if (debugMode) {
+            plugin.getPluginLogger().info("==================");
         }
-        veinMinerSessions.clear();
     }
 
-    private static class VeinMinerSession {
-        private volatile long lastBreak;
-        private volatile int blocksThisSession;
-        private static final long SESSION_TIMEOUT_MS = 500;
+    /**
+     * ItemStacks of rolled drops with the Oraxen ID of each stack
+     */
+    private record BuiltDrops(ItemStack[] stacks, String[] itemIds) {
+    }
 
-        public VeinMinerSession() {
-            this.lastBreak = System.currentTimeMillis();
-            this.blocksThisSession = 0;
+    /**
+     * Builds the ItemStacks of rolled drops and records them in the metrics
+     *
+     * Drops whose Oraxen item no longer exists are left out.
+     *
+     * @param table Table the drops were rolled against
+     */
+    private BuiltDrops buildDrops(CompiledDropTable table, Material material, DropBuffer customDrops) {
+        if (customDrops.isEmpty()) {
+            return NO_DROPS;
         }
 
-        public synchronized void update() {
-            long now = System.currentTimeMillis();
-            if ((now - lastBreak) > SESSION_TIMEOUT_MS) {
-                blocksThisSession = 0;
+        ItemStack[] drops = new ItemStack[customDrops.size()];
+        String[] itemIds = new String[customDrops.size()];
+        int dropCount = 0;
+
+        for (int i = 0; i < customDrops.size(); i++) {
+            ItemStack drop = dropManager.createItem(table, customDrops.itemIndex(i), customDrops.amount(i));
+            if (drop == null) continue;
+
+            String itemId = table.getItemId(customDrops.itemIndex(i));
+            if (metrics.isEnabled()) {
+                metrics.recordDrop(material, itemId, customDrops.amount(i));
             }
-            lastBreak = now;
+
+            if (debugMode) {
+                String name = drop.hasItemMeta() && drop.getItemMeta().hasDisplayName()
+                        ? drop.getItemMeta().getDisplayName()
+                        : drop.getType().toString();
+                plugin.getPluginLogger().info("  → Drop: " + drop.getType() +
+                        " x" + drop.getAmount() + " (" + name + ")");
+            }
+            drops[dropCount] = drop;
+            itemIds[dropCount] = itemId;
+            dropCount++;
         }
 
-        public synchronized void incrementBlocks() {
-            blocksThisSession++;
+        if (dropCount < drops.length) {
+            drops = Arrays.copyOf(drops, dropCount);
+            itemIds = Arrays.copyOf(itemIds, dropCount);
         }
+        return new BuiltDrops(drops, itemIds);
+    }
 
-        public boolean isVeinMining() {
-            return blocksThisSession > 1;
+    /**
+     * Delivers drops and records in the ledger what was actually received
+     *
+     * @param player Breaking player, recorded in the ledger
+     * @param recipient Player for inventory delivery, null for world delivery
+     */
+    private void deliverAndRecord(Player player, Player recipient, Location location, Material material,
+                                  int fortuneLevel, BuiltDrops drops) {
+        ItemStack[] stacks = drops.stacks();
+        if (stacks.length == 0) {
+            return;
         }
 
-        public int getBlocksMinedThisSession() {
-            return blocksThisSession;
+        // Delivery may change the amounts (merging, addItem)
+        int[] amounts = new int[stacks.length];
+        for (int i = 0; i < stacks.length; i++) {
+            amounts[i] = stacks[i].getAmount();
         }
 
-        public boolean isExpired() {
-            return (System.currentTimeMillis() - lastBreak) > SESSION_TIMEOUT_MS;
+        Map<Integer, ItemStack> discarded = dropManager.deliver(recipient, location, stacks);
+
+        for (int i = 0; i < stacks.length; i++) {
+            ItemStack rest = discarded.get(i);
+            int received = amounts[i] - (rest != null ? rest.getAmount() : 0);
+            if (received > 0) {
+                record(player, location, material, fortuneLevel, drops.itemIds()[i], received);
+            }
         }
     }
-}
\ No newline at end of file
+
+    private void record(Player player, Location location, Material material, int fortuneLevel,
+                        String itemId, int amount) {
+        ledger.record(player, material, itemId, amount, fortuneLevel, dropManager.getDropMethod(),
+                location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    /**
+     * Reads the vein-miner section of the config
+     */
+    public void reload() {
+        this.debugMode = plugin.getConfig().getBoolean("debug-mode", false);
+        this.sampleRate = Math.max(1, plugin.getConfig().getInt("vein-miner.sample-rate", 5));
+        this.fortunePenalty = Math.max(0, plugin.getConfig().getInt("vein-miner.fortune-penalty", 5));
+        this.mergeIntoVanillaDrops = plugin.getConfig().getBoolean("drop-spawning.merge-into-vanilla-drops", false);
+    }
+
+    public void setDebugMode(boolean enabled) {
+        this.debugMode = enabled;
+    }
+
+    public void shutdown() {
+        flushPendingDrops();
+        veinMinerTracker.clear();
+    }
+}
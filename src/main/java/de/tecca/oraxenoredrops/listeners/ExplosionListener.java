@@ -0,0 +1,134 @@
+package de.tecca.oraxenoredrops.listeners;
+
+import de.tecca.oraxenoredrops.OraxenOreDrops;
+import de.tecca.oraxenoredrops.enums.YieldScaling;
+import de.tecca.oraxenoredrops.managers.BlockDropManager;
+import de.tecca.oraxenoredrops.managers.DropLedger;
+import de.tecca.oraxenoredrops.managers.DropMetrics;
+import de.tecca.oraxenoredrops.managers.PlacedBlockTracker;
+import de.tecca.oraxenoredrops.util.DropMechanics;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Custom drops for blocks destroyed by explosions (TNT, creepers, beds, ...)
+ *
+ * The block list of an explosion is counted per block type and rolled in
+ * one bulk roll, so a crater of hundreds of blocks costs a few draws and
+ * spawns a few merged stacks at the center.
+ */
+public class ExplosionListener implements Listener {
+
+    private final OraxenOreDrops plugin;
+    private final BlockDropManager dropManager;
+    private final DropMetrics metrics;
+    private final DropLedger ledger;
+    private final PlacedBlockTracker placedBlocks;
+
+    // Written by reload() on the main thread (global region), read by region threads
+    private volatile boolean enabled;
+    private volatile YieldScaling yieldScaling;
+    private volatile double fixedYield;
+    private volatile int fortuneLevel;
+
+    public ExplosionListener(OraxenOreDrops plugin) {
+        this.plugin = plugin;
+        this.dropManager = plugin.getBlockDropManager();
+        this.metrics = plugin.getDropMetrics();
+        this.ledger = plugin.getDropLedger();
+        this.placedBlocks = plugin.getPlacedBlockTracker();
+        reload();
+    }
+
+    /**
+     * Reads the explosions section of the config
+     */
+    public void reload() {
+        enabled = plugin.getConfig().getBoolean("explosions.enabled", true);
+
+        String scalingStr = plugin.getConfig().getString("explosions.yield-scaling", "EVENT");
+        try {
+            yieldScaling = YieldScaling.valueOf(scalingStr.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("Invalid explosions.yield-scaling: " + scalingStr + ", using EVENT");
+            yieldScaling = YieldScaling.EVENT;
+        }
+
+        fixedYield = Math.max(0.0, Math.min(1.0, plugin.getConfig().getDouble("explosions.fixed-yield", 1.0)));
+        fortuneLevel = Math.max(0, plugin.getConfig().getInt("explosions.fortune", 0));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        if (!enabled) return;
+        handleExplosion(event.blockList(), event.getYield(), event.getBlock().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        if (!enabled) return;
+        handleExplosion(event.blockList(), event.getYield(), event.getLocation());
+    }
+
+    private void handleExplosion(List<Block> blocks, float eventYield, Location center) {
+        if (blocks.isEmpty()) {
+            return;
+        }
+
+        // Count blocks per type, skipping types without drops and placed blocks
+        Map<Material, Integer> counts = new EnumMap<>(Material.class);
+        for (Block block : blocks) {
+            Material type = block.getType();
+            if (dropManager.hasDrops(type) && !placedBlocks.consumePlaced(block)) {
+                counts.merge(type, 1, Integer::sum);
+            }
+        }
+
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        double yield = switch (yieldScaling) {
+            case NONE -> 1.0;
+            case EVENT -> Math.max(0.0, Math.min(1.0, eventYield));
+            case FIXED -> fixedYield;
+        };
+
+        // Binomial thinning: each block survives with the yield on its own
+        RandomGenerator random = dropManager.getRandom().get(center.getWorld());
+        for (Map.Entry<Material, Integer> e : counts.entrySet()) {
+            int rolled = DropMechanics.sampleBinomial(e.getValue(), yield, random);
+            metrics.recordBreaksSeen(e.getValue());
+            metrics.recordBulk(e.getKey(), e.getValue(), rolled);
+            e.setValue(rolled);
+        }
+
+        // Recorded per block type before the drops are merged, no player
+        World world = center.getWorld();
+        List<ItemStack> drops = dropManager.getDropsBulk(counts, fortuneLevel, world, (material, itemId, amount) -> {
+            if (metrics.isEnabled()) {
+                metrics.recordDrop(material, itemId, amount);
+            }
+            ledger.record(null, material, itemId, amount, fortuneLevel, dropManager.getDropMethod(), world,
+                    center.getBlockX(), center.getBlockY(), center.getBlockZ());
+        });
+        if (drops.isEmpty()) {
+            return;
+        }
+
+        dropManager.deliver(null, center, drops.toArray(new ItemStack[0]));
+    }
+}
@@ -0,0 +1,32 @@
+package de.tecca.oraxenoredrops.listeners;
+
+import de.tecca.oraxenoredrops.OraxenOreDrops;
+import io.th0rgal.oraxen.api.events.OraxenItemsLoadedEvent;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+
+/**
+ * Builds the drop tables once Oraxen loaded its items and keeps cached
+ * item prototypes in sync with later Oraxen reloads
+ */
+public class OraxenItemsListener implements Listener {
+
+    private final OraxenOreDrops plugin;
+
+    public OraxenItemsListener(OraxenOreDrops plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler
+    public void onOraxenItemsLoaded(OraxenItemsLoadedEvent event) {
+        if (plugin.getBlockDropManager() == null) {
+            return;
+        }
+
+        if (plugin.getBlockDropManager().isWarming()) {
+            plugin.getConfigReloader().warmUp("items loaded");
+        } else {
+            plugin.getBlockDropManager().onOraxenItemsReloaded();
+        }
+    }
+}
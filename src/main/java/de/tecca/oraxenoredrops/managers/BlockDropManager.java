@@ -1,122 +1,290 @@
 package de.tecca.oraxenoredrops.managers;
 
 import de.tecca.oraxenoredrops.OraxenOreDrops;
+import de.tecca.oraxenoredrops.enums.DeliveryMode;
 import de.tecca.oraxenoredrops.enums.DropMethod;
+import de.tecca.oraxenoredrops.model.CompiledDropEntry;
+import de.tecca.oraxenoredrops.model.CompiledDropTable;
+import de.tecca.oraxenoredrops.model.DropBuffer;
 import de.tecca.oraxenoredrops.model.DropEntry;
+import de.tecca.oraxenoredrops.model.DropReport;
+import de.tecca.oraxenoredrops.model.DropSink;
+import de.tecca.oraxenoredrops.model.FortuneTable;
 import de.tecca.oraxenoredrops.util.DropMechanics;
+import de.tecca.oraxenoredrops.util.DropRandom;
 import de.tecca.oraxenoredrops.util.OraxenItemUtil;
+import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
 
 public class BlockDropManager {
 
     private OraxenOreDrops plugin;
-    private boolean debugMode;
+    // Written by apply() on the main thread (global region), read by every region thread
+    private volatile boolean debugMode;
+    private volatile DeliveryMode deliveryMode = DeliveryMode.WORLD;
+    private volatile DropRandom random = DropRandom.createDefault();
 
-    private final Map<Material, List<DropEntry>> blockDrops = new ConcurrentHashMap<>();
+    // Published as a whole on (re)load, never modified in place
+    private volatile CompiledDropTable table = CompiledDropTable.EMPTY;
 
-    // Config: Which drop method to use?
-    private DropMethod dropMethod = DropMethod.HYBRID; // Default: Hybrid
+    // True until the first table is published - built once Oraxen's items are loaded
+    private volatile boolean warming = true;
+
+    // Parsed block-drops of the published table, the base of incremental reloads
+    private volatile Map<Material, ParsedBlock> parsedBlocks = Map.of();
+
+    private final ItemPrototypeCache itemCache;
+
+    // Analytic report of the current table, rebuilt when the table changes
+    private volatile DropReport report;
+    private int reportMaxFortune = 10;
+
+    // Full inventories in INVENTORY mode, warned about at most once per interval
+    private static final long DISCARD_WARNING_INTERVAL_MS = 60_000;
+    private final AtomicLong lastDiscardWarning = new AtomicLong(Long.MIN_VALUE / 2);
+    private final AtomicLong discardedStacks = new AtomicLong();
+
+    // Reused by getDrops(), one per thread
+    private final ThreadLocal<DropBuffer> buffers = ThreadLocal.withInitial(DropBuffer::new);
 
     public BlockDropManager(OraxenOreDrops plugin) {
         this.plugin = plugin;
+        this.itemCache = new ItemPrototypeCache(id -> OraxenItemUtil.buildItem(id, plugin));
         this.debugMode = plugin.getConfig().getBoolean("debug-mode", false);
-        loadConfig();
-        loadBlockDrops();
     }
 
-    private void loadConfig() {
-        String methodStr = plugin.getConfig().getString("drop-mechanics.method", "HYBRID");
+    private int loadFortuneTableCap(ConfigurationSection config, List<String> problems) {
+        int cap = config.getInt("drop-mechanics.fortune-table-cap", 50);
+        if (cap < 0) {
+            problem(problems, "Invalid fortune-table-cap: " + cap + ", using 50");
+            return 50;
+        }
+        return cap;
+    }
+
+    private DropMethod loadDropMethod(ConfigurationSection config, List<String> problems) {
+        String methodStr = config.getString("drop-mechanics.method", "HYBRID");
+        try {
+            return DropMethod.valueOf(methodStr.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            problem(problems, "Invalid drop-method: " + methodStr + ", using HYBRID");
+            return DropMethod.HYBRID;
+        }
+    }
+
+    private DeliveryMode loadDeliveryMode(ConfigurationSection config, List<String> problems) {
+        String modeStr = config.getString("delivery-mode", "WORLD");
         try {
-            dropMethod = DropMethod.valueOf(methodStr.toUpperCase());
-            info("Drop method: " + dropMethod);
+            return DeliveryMode.valueOf(modeStr.toUpperCase());
         } catch (IllegalArgumentException e) {
-            warn("Invalid drop-method: " + methodStr + ", using HYBRID");
-            dropMethod = DropMethod.HYBRID;
+            problem(problems, "Invalid delivery-mode: " + modeStr + ", using WORLD");
+            return DeliveryMode.WORLD;
         }
     }
 
-    private void loadBlockDrops() {
-        ConfigurationSection section = plugin.getConfig().getConfigurationSection("block-drops");
+    private DropRandom loadRandom(ConfigurationSection config, List<String> problems) {
+        String algorithm = config.getString("random.algorithm", DropRandom.DEFAULT_ALGORITHM);
+
+        Long seed = null;
+        String seedStr = config.getString("random.seed", "");
+        if (seedStr != null && !seedStr.isBlank()) {
+            try {
+                seed = Long.parseLong(seedStr.trim());
+            } catch (NumberFormatException e) {
+                problem(problems, "Invalid random seed: " + seedStr + ", using random seeds");
+            }
+        }
+
+        Map<String, Long> worldSeeds = new HashMap<>();
+        ConfigurationSection section = config.getConfigurationSection("random.world-seeds");
+        if (section != null) {
+            for (String world : section.getKeys(false)) {
+                try {
+                    worldSeeds.put(world, Long.parseLong(section.getString(world, "").trim()));
+                } catch (NumberFormatException e) {
+                    problem(problems, "Invalid random seed for world " + world + ": " + section.getString(world));
+                }
+            }
+        }
+
+        try {
+            return DropRandom.create(algorithm, seed, worldSeeds);
+        } catch (IllegalArgumentException e) {
+            problem(problems, "Invalid random algorithm: " + algorithm + ", using " + DropRandom.DEFAULT_ALGORITHM);
+            return DropRandom.create(DropRandom.DEFAULT_ALGORITHM, seed, worldSeeds);
+        }
+    }
+
+    /**
+     * Raw values of one drop entry as written in the config, before validation
+     */
+    private record RawEntry(String key, String itemId, double chance, int minAmount, int maxAmount) {
+    }
+
+    /**
+     * Parsed block-drops entry of one block type
+     *
+     * @param raw Config values, compared to find unchanged block types
+     * @param drops Validated entries
+     * @param problems Problems found while validating (logged once, when validated)
+     */
+    private record ParsedBlock(List<RawEntry> raw, List<DropEntry> drops, List<String> problems) {
+    }
+
+    /**
+     * Raw entries of one block type, read from the config before validation
+     */
+    private record BlockSource(Material material, String path, List<RawEntry> raw) {
+    }
+
+    /**
+     * Parses and validates the block-drops section
+     *
+     * @param previous Parsed blocks of the published table - block types whose
+     *                 raw config is unchanged are taken over without validating again.
+     *                 Empty to validate everything.
+     */
+    private Map<Material, ParsedBlock> loadBlockDrops(ConfigurationSection config, DropMethod dropMethod,
+                                                      boolean debug, Map<Material, ParsedBlock> previous,
+                                                      List<String> problems) {
+        Map<Material, ParsedBlock> blocks = new EnumMap<>(Material.class);
+
+        ConfigurationSection section = config.getConfigurationSection("block-drops");
         if (section == null) {
-            warn("No block-drops section in config!");
-            return;
+            problem(problems, "No block-drops section in config!");
+            return blocks;
         }
 
-        blockDrops.clear();
-        int totalDrops = 0;
         int invalidBlocks = 0;
 
+        // Read the config in order, it is not thread-safe to walk
+        List<BlockSource> sources = new ArrayList<>();
         for (String blockType : section.getKeys(false)) {
+            Material material;
             try {
-                Material material = Material.valueOf(blockType.toUpperCase());
-                List<DropEntry> drops = loadDropEntries(
-                        section.getConfigurationSection(blockType),
-                        "block-drops." + blockType
-                );
+                material = Material.valueOf(blockType.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                problem(problems, "Invalid block type: " + blockType);
+                invalidBlocks++;
+                continue;
+            }
 
-                if (!drops.isEmpty()) {
-                    blockDrops.put(material, drops);
-                    totalDrops += drops.size();
+            String path = "block-drops." + blockType;
+            ConfigurationSection blockSection = section.getConfigurationSection(blockType);
+            if (blockSection == null) {
+                problem(problems, path + ": Section is null!");
+                continue;
+            }
 
-                    debug("Block drops: " + material + " → " + drops.size() + " items");
+            sources.add(new BlockSource(material, path, readRawEntries(blockSection)));
+        }
+
+        // Validate the changed block types in parallel (Oraxen registry lookups)
+        List<ParsedBlock> parsed = sources.parallelStream()
+                .map(source -> {
+                    ParsedBlock block = previous.get(source.material());
+                    if (block != null && block.raw().equals(source.raw())) {
+                        return block;
+                    }
+                    List<String> blockProblems = new ArrayList<>();
+                    List<DropEntry> drops = loadDropEntries(source.raw(), source.path(), blockProblems);
+                    return new ParsedBlock(source.raw(), List.copyOf(drops), List.copyOf(blockProblems));
+                })
+                .toList();
+
+        int totalDrops = 0;
+        int unchangedBlocks = 0;
+
+        for (int i = 0; i < sources.size(); i++) {
+            Material material = sources.get(i).material();
+            ParsedBlock block = parsed.get(i);
+
+            if (block == previous.get(material)) {
+                // Problems were logged when the block type was validated
+                problems.addAll(block.problems());
+                unchangedBlocks++;
+            } else {
+                block.problems().forEach(problem -> problem(problems, problem));
+            }
+            blocks.put(material, block);
+
+            List<DropEntry> drops = block.drops();
+            if (!drops.isEmpty()) {
+                totalDrops += drops.size();
+
+                if (debug) {
+                    debug(true, "Block drops: " + material + " → " + drops.size() + " items");
                     for (DropEntry entry : drops) {
-                        debug("  - " + entry.oraxenItemId() + " (" + entry.chance() + "%)");
+                        debug(true, "  - " + entry.oraxenItemId() + " (" + entry.chance() + "%)");
 
                         // Debug: Show fortune scaling
-                        if (debugMode) {
-                            debugFortuneScaling(entry.chance());
-                        }
+                        debugFortuneScaling(entry.chance(), dropMethod);
                     }
                 }
-            } catch (IllegalArgumentException e) {
-                warn("Invalid block type: " + blockType);
-                invalidBlocks++;
             }
         }
 
-        info("Block drops: " + totalDrops + " items for " + blockDrops.size() + " blocks" +
-                (invalidBlocks > 0 ? " (" + invalidBlocks + " invalid)" : ""));
+        info("Block drops: " + totalDrops + " items for " + blocks.size() + " blocks" +
+                (invalidBlocks > 0 ? " (" + invalidBlocks + " invalid)" : "") +
+                (unchangedBlocks > 0 ? " (" + unchangedBlocks + " unchanged)" : ""));
+        return blocks;
     }
 
-    private List<DropEntry> loadDropEntries(ConfigurationSection section, String path) {
-        List<DropEntry> drops = new ArrayList<>();
-
-        if (section == null) {
-            warn(path + ": Section is null!");
-            return drops;
-        }
-
+    private static List<RawEntry> readRawEntries(ConfigurationSection section) {
+        List<RawEntry> raw = new ArrayList<>();
         for (String key : section.getKeys(false)) {
             ConfigurationSection entrySection = section.getConfigurationSection(key);
             if (entrySection == null) continue;
 
-            String itemId = entrySection.getString("oraxen-item");
-            double chance = entrySection.getDouble("chance", 0);
-            int minAmount = entrySection.getInt("min-amount", 1);
-            int maxAmount = entrySection.getInt("max-amount", 1);
+            raw.add(new RawEntry(key,
+                    entrySection.getString("oraxen-item"),
+                    entrySection.getDouble("chance", 0),
+                    entrySection.getInt("min-amount", 1),
+                    entrySection.getInt("max-amount", 1)));
+        }
+        return raw;
+    }
+
+    /**
+     * Validates the entries of one block type, thread-safe - problems are collected, not logged
+     */
+    private static List<DropEntry> loadDropEntries(List<RawEntry> raw, String path, List<String> problems) {
+        List<DropEntry> drops = new ArrayList<>();
+
+        for (RawEntry entry : raw) {
+            String itemId = entry.itemId();
+            double chance = entry.chance();
+            int minAmount = entry.minAmount();
+            int maxAmount = entry.maxAmount();
 
             // Validation
             if (!OraxenItemUtil.validate(itemId)) {
-                warn(path + "." + key + ": Item '" + itemId + "' invalid");
+                problems.add(path + "." + entry.key() + ": Item '" + itemId + "' invalid");
                 continue;
             }
 
             if (chance <= 0 || chance > 100) {
-                warn(path + "." + key + ": Invalid chance " + chance + "%");
+                problems.add(path + "." + entry.key() + ": Invalid chance " + chance + "%");
                 continue;
             }
 
             if (minAmount < 0 || maxAmount < minAmount) {
-                warn(path + "." + key + ": Invalid amounts (min=" + minAmount + ", max=" + maxAmount + ")");
+                problems.add(path + "." + entry.key() + ": Invalid amounts (min=" + minAmount +
+                        ", max=" + maxAmount + ")");
                 continue;
             }
 
@@ -129,8 +297,8 @@ public class BlockDropManager {
     /**
      * Debug: Shows how Fortune scales the chance
      */
-    private void debugFortuneScaling(double baseChance) {
-        debug("  Fortune scaling for " + baseChance + "%:");
+    private void debugFortuneScaling(double baseChance, DropMethod dropMethod) {
+        debug(true, "  Fortune scaling for " + baseChance + "%:");
         for (int fortune = 0; fortune <= 10; fortune += 3) {
             String result = switch (dropMethod) {
                 case DIMINISHING -> {
@@ -149,177 +317,354 @@ public class BlockDropManager {
                             fortune, hybrid.rolls, hybrid.chancePerRoll, hybrid.totalChance);
                 }
             };
-            debug(result);
+            debug(true, result);
         }
     }
 
     /**
      * Gets drops for a block with Fortune level
+     *
+     * Convenience wrapper around {@link #rollInto} that builds the ItemStacks
      */
     public List<ItemStack> getDrops(Material material, int fortuneLevel) {
-        List<DropEntry> entries = blockDrops.get(material);
-
-        debug("getBlockDrops(" + material + ", Fortune=" + fortuneLevel + ")");
-        debug("  Method: " + dropMethod);
-        debug("  Entries: " + (entries != null ? entries.size() : 0));
+        CompiledDropTable table = this.table;
+        DropBuffer buffer = buffers.get();
+        buffer.clear();
 
-        if (entries == null || entries.isEmpty()) {
-            debug("  → NO drops configured");
+        if (rollInto(table, material, fortuneLevel, buffer, null) == 0) {
             return Collections.emptyList();
         }
 
-        return processDrops(entries, fortuneLevel);
+        List<ItemStack> drops = new ArrayList<>(buffer.size());
+        for (int i = 0; i < buffer.size(); i++) {
+            ItemStack item = createItem(table, buffer.itemIndex(i), buffer.amount(i));
+            if (item != null) {
+                drops.add(item);
+            }
+        }
+        return drops;
     }
 
     /**
-     * Processes drops with new mechanics
+     * Gets the drops of many blocks at once
+     *
+     * Meant for vein miners, explosions and area tools: every (block type,
+     * drop entry) pair costs one aggregated draw regardless of the block
+     * count, see {@link CompiledDropTable#rollBulkInto}. The result is
+     * merged per Oraxen item and split into stacks of max stack size.
+     *
+     * @param counts Number of broken blocks per block type
+     * @param fortuneLevel Fortune/Looting level
+     * @param world World of the blocks (for seeded rolls), may be null
+     * @return Merged drops, empty list if nothing dropped
      */
-    private List<ItemStack> processDrops(List<DropEntry> entries, int fortuneLevel) {
-        List<ItemStack> drops = new ArrayList<>();
-        ThreadLocalRandom random = ThreadLocalRandom.current();
-
-        for (DropEntry entry : entries) {
-            debug("  Drop: " + entry.oraxenItemId() + " (Base: " + entry.chance() + "%)");
+    public List<ItemStack> getDropsBulk(Map<Material, Integer> counts, int fortuneLevel, World world) {
+        return getDropsBulk(counts, fortuneLevel, world, null);
+    }
 
-            boolean dropped = false;
-            int amount = 0;
+    /**
+     * Receives every rolled drop of a bulk roll before merging, per block type
+     */
+    @FunctionalInterface
+    public interface DropObserver {
+        void onDrop(Material material, String itemId, int amount);
+    }
 
-            // Choose drop method
-            switch (dropMethod) {
-                case DIMINISHING:
-                    dropped = rollDiminishing(entry.chance(), fortuneLevel, random);
-                    if (dropped) {
-                        amount = DropMechanics.calculateDropAmount(
-                                entry.minAmount(), entry.maxAmount(), fortuneLevel);
+    /**
+     * Gets the drops of many blocks at once and reports each rolled drop
+     *
+     * @param observer Receives (block type, item, amount) of every drop that
+     *                 becomes an ItemStack (metrics, ledger), may be null
+     * @see #getDropsBulk(Map, int, World)
+     */
+    public List<ItemStack> getDropsBulk(Map<Material, Integer> counts, int fortuneLevel, World world,
+                                        DropObserver observer) {
+        CompiledDropTable table = this.table;
+        DropBuffer buffer = buffers.get();
+        buffer.clear();
+
+        RandomGenerator random = this.random.get(world);
+        for (Map.Entry<Material, Integer> e : counts.entrySet()) {
+            Integer blocks = e.getValue();
+            if (blocks == null || blocks <= 0 || !table.hasDrops(e.getKey())) continue;
+
+            int from = buffer.size();
+            table.rollBulkInto(e.getKey(), blocks, fortuneLevel, buffer, random);
+
+            if (observer != null) {
+                for (int i = from; i < buffer.size(); i++) {
+                    String itemId = table.getItemId(buffer.itemIndex(i));
+                    if (itemCache.getPrototype(itemId) != null) {
+                        observer.onDrop(e.getKey(), itemId, buffer.amount(i));
                     }
-                    break;
-
-                case BONUS_ROLLS:
-                    amount = rollBonusRolls(entry.chance(), fortuneLevel,
-                            entry.minAmount(), entry.maxAmount(), random);
-                    dropped = amount > 0;
-                    break;
-
-                case HYBRID:
-                    amount = rollHybrid(entry.chance(), fortuneLevel,
-                            entry.minAmount(), entry.maxAmount(), random);
-                    dropped = amount > 0;
-                    break;
-            }
-
-            if (dropped && amount > 0) {
-                ItemStack item = OraxenItemUtil.buildItem(entry.oraxenItemId(), plugin);
-                if (item != null) {
-                    item.setAmount(amount);
-                    drops.add(item);
-                    debug("    ✓ SUCCESS: " + item.getType() + " x" + amount);
                 }
-            } else {
-                debug("    ✗ MISS");
             }
         }
 
-        debug("  TOTAL: " + drops.size() + " drops");
+        if (debugMode) {
+            debug("getDropsBulk(" + counts + ", Fortune=" + fortuneLevel + ") → " + buffer.size() + " drop(s)");
+        }
+
+        if (buffer.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // Several block types can drop the same item
+        long[] totals = new long[table.getItemCount()];
+        for (int i = 0; i < buffer.size(); i++) {
+            totals[buffer.itemIndex(i)] += buffer.amount(i);
+        }
+
+        List<ItemStack> drops = new ArrayList<>();
+        for (int itemIndex = 0; itemIndex < totals.length; itemIndex++) {
+            long remaining = totals[itemIndex];
+            if (remaining == 0) continue;
+
+            String itemId = table.getItemId(itemIndex);
+            ItemStack prototype = itemCache.getPrototype(itemId);
+            if (prototype == null) continue;
+
+            int maxStack = Math.max(1, prototype.getMaxStackSize());
+            while (remaining > 0) {
+                int amount = (int) Math.min(maxStack, remaining);
+                drops.add(itemCache.create(itemId, amount));
+                remaining -= amount;
+            }
+        }
         return drops;
     }
 
     /**
-     * METHOD 1: Diminishing Returns
+     * Checks if a block type has any drops configured
+     *
+     * Single bitset read, meant to run before any other work on a break.
      */
-    private boolean rollDiminishing(double baseChance, int fortuneLevel, ThreadLocalRandom random) {
-        double finalChance = DropMechanics.calculateDropChance(baseChance, fortuneLevel);
-        double roll = random.nextDouble() * 100;
+    public boolean hasDrops(Material material) {
+        return table.hasDrops(material);
+    }
+
+    /**
+     * Rolls the drops of a block without allocating
+     *
+     * The item indices are only valid for the given table - a reload can publish
+     * a new table at any time (Folia: from another thread), so callers pin
+     * {@link #getTable()} once per break and resolve the drops against it.
+     *
+     * @param table Table snapshot from {@link #getTable()}
+     * @param material Block type
+     * @param fortuneLevel Fortune/Looting level
+     * @param sink Receives (item index, amount) pairs, see {@link #createItem(CompiledDropTable, int, int)}
+     * @param world World of the block (for seeded rolls), may be null
+     * @return Number of drops written to the sink
+     */
+    public int rollInto(CompiledDropTable table, Material material, int fortuneLevel, DropSink sink, World world) {
+        if (!table.hasDrops(material)) {
+            if (debugMode) {
+                debug("getBlockDrops(" + material + ", Fortune=" + fortuneLevel + ")");
+                debug("  → NO drops configured");
+            }
+            return 0;
+        }
 
         if (debugMode) {
-            debug("    Diminishing: " + baseChance + "% → " +
-                    String.format("%.3f%%", finalChance) +
-                    " | Roll: " + String.format("%.3f", roll));
+            return rollIntoDebug(table, material, fortuneLevel, sink, random.get(world));
         }
 
-        return roll < finalChance;
+        return table.rollInto(material, fortuneLevel, sink, random.get(world));
     }
 
     /**
-     * METHOD 2: Bonus Rolls
+     * Same as {@link CompiledDropTable#rollInto} but logs every entry
      */
-    private int rollBonusRolls(double baseChance, int fortuneLevel,
-                               int minAmount, int maxAmount, ThreadLocalRandom random) {
-        var result = DropMechanics.calculateBonusRolls(baseChance, fortuneLevel);
+    private int rollIntoDebug(CompiledDropTable table, Material material, int fortuneLevel, DropSink sink,
+                              RandomGenerator random) {
+        CompiledDropEntry[] entries = table.getEntries(material);
+        int dropped = 0;
 
-        if (debugMode) {
-            debug("    Bonus Rolls: " + result);
+        debug("getBlockDrops(" + material + ", Fortune=" + fortuneLevel + ")");
+        debug("  Method: " + table.getDropMethod());
+        debug("  Entries: " + entries.length);
+
+        for (CompiledDropEntry entry : entries) {
+            FortuneTable fortuneTable = entry.fortuneTable();
+            debug("  Drop: " + entry.oraxenItemId() + " (Base: " + entry.chance() + "%)");
+            debug(String.format("    %s: %d rolls @ %.3f%% = %.3f%% total",
+                    entry.dropMethod(), fortuneTable.rolls(fortuneLevel),
+                    fortuneTable.chancePerRoll(fortuneLevel), fortuneTable.totalChance(fortuneLevel)));
+
+            int amount = entry.roll(fortuneLevel, random);
+            if (amount > 0) {
+                sink.accept(entry.itemIndex(), amount);
+                dropped++;
+                debug("    ✓ SUCCESS: " + entry.oraxenItemId() + " x" + amount);
+            } else {
+                debug("    ✗ MISS");
+            }
         }
 
-        int totalAmount = 0;
+        debug("  TOTAL: " + dropped + " drops");
+        return dropped;
+    }
 
-        // Roll for each attempt
-        for (int i = 0; i < result.rolls; i++) {
-            double roll = random.nextDouble() * 100;
+    /**
+     * Rolls several blocks of one type at once into a sink
+     *
+     * One aggregated draw per drop entry instead of one roll per block,
+     * see {@link CompiledDropTable#rollBulkInto}.
+     *
+     * @param table Table snapshot from {@link #getTable()}
+     * @param material Block type
+     * @param blocks Number of blocks
+     * @param fortuneLevel Fortune/Looting level
+     * @param sink Receives (item index, summed amount) pairs
+     * @param world World of the blocks (for seeded rolls), may be null
+     * @return Number of drops written to the sink
+     */
+    public int rollBulkInto(CompiledDropTable table, Material material, int blocks, int fortuneLevel, DropSink sink,
+                            World world) {
+        if (blocks <= 0 || !table.hasDrops(material)) {
+            return 0;
+        }
 
-            if (roll < result.chancePerRoll) {
-                int amount = random.nextInt(minAmount, maxAmount + 1);
-                totalAmount += amount;
+        int dropped = table.rollBulkInto(material, blocks, fortuneLevel, sink, random.get(world));
 
-                if (debugMode) {
-                    debug("      Roll " + (i + 1) + ": " +
-                            String.format("%.3f < %.3f", roll, result.chancePerRoll) +
-                            " → +" + amount);
-                }
-            } else if (debugMode) {
-                debug("      Roll " + (i + 1) + ": " +
-                        String.format("%.3f >= %.3f", roll, result.chancePerRoll) +
-                        " → Miss");
-            }
+        if (debugMode) {
+            debug("getBlockDropsBulk(" + material + " x" + blocks + ", Fortune=" + fortuneLevel + ") → " +
+                    dropped + " drop(s)");
         }
 
-        return totalAmount;
+        return dropped;
     }
 
     /**
-     * METHOD 3: Hybrid
+     * Builds the ItemStack for a rolled drop
+     *
+     * @param table Table the drop was rolled against
+     * @param itemIndex Item index from {@link #rollInto}
+     * @param amount Stack size
+     * @return ItemStack or null if the Oraxen item does not exist
      */
-    private int rollHybrid(double baseChance, int fortuneLevel,
-                           int minAmount, int maxAmount, ThreadLocalRandom random) {
-        var result = DropMechanics.calculateHybridDrop(baseChance, fortuneLevel);
+    public ItemStack createItem(CompiledDropTable table, int itemIndex, int amount) {
+        return itemCache.create(table.getItemId(itemIndex), amount);
+    }
 
-        if (debugMode) {
-            debug("    Hybrid: " + result);
+    // ==================== DELIVERY ====================
+
+    /**
+     * Hands the drops of one break to the player or the world
+     *
+     * Inventory modes use a single addItem call for all drops. In INVENTORY
+     * mode whatever does not fit is discarded (with a rate-limited warning)
+     * and returned, so it is not recorded as received. INVENTORY_THEN_WORLD
+     * spawns it (merged) at the block instead.
+     *
+     * @param player Breaking player, null for world delivery
+     * @param location Location of the broken block
+     * @param drops Drops, amounts may be changed by this call
+     * @return Discarded rest per index of drops (INVENTORY mode only), empty if everything was delivered
+     */
+    public Map<Integer, ItemStack> deliver(Player player, Location location, ItemStack... drops) {
+        if (drops.length == 0) {
+            return Collections.emptyMap();
         }
 
-        int totalAmount = 0;
+        DropSpawnQueue spawnQueue = plugin.getDropSpawnQueue();
 
-        for (int i = 0; i < result.rolls; i++) {
-            double roll = random.nextDouble() * 100;
+        if (deliveryMode == DeliveryMode.WORLD || player == null) {
+            for (ItemStack drop : drops) {
+                spawnQueue.spawn(location, drop);
+            }
+            return Collections.emptyMap();
+        }
 
-            if (roll < result.chancePerRoll) {
-                int amount = random.nextInt(minAmount, maxAmount + 1);
-                totalAmount += amount;
+        Map<Integer, ItemStack> overflow = player.getInventory().addItem(drops);
+        if (overflow.isEmpty()) {
+            return Collections.emptyMap();
+        }
 
-                if (debugMode) {
-                    debug("      Roll " + (i + 1) + ": " +
-                            String.format("%.3f < %.3f", roll, result.chancePerRoll) +
-                            " → +" + amount);
-                }
-            } else if (debugMode) {
-                debug("      Roll " + (i + 1) + ": " +
-                        String.format("%.3f >= %.3f", roll, result.chancePerRoll) +
-                        " → Miss");
+        if (deliveryMode == DeliveryMode.INVENTORY_THEN_WORLD) {
+            for (ItemStack drop : overflow.values()) {
+                spawnQueue.spawn(location, drop);
             }
+            return Collections.emptyMap();
+        }
+
+        warnDiscarded(player, overflow);
+        return overflow;
+    }
+
+    /**
+     * Warns about drops lost to a full inventory, at most once per minute
+     */
+    private void warnDiscarded(Player player, Map<Integer, ItemStack> overflow) {
+        long discarded = discardedStacks.addAndGet(overflow.size());
+        long now = System.currentTimeMillis();
+        long last = lastDiscardWarning.get();
+
+        if (now - last >= DISCARD_WARNING_INTERVAL_MS && lastDiscardWarning.compareAndSet(last, now)) {
+            discardedStacks.addAndGet(-discarded);
+            warn("Inventory of " + player.getName() + " full - discarded " + discarded +
+                    " stack(s) of custom drops since the last warning (delivery-mode INVENTORY)");
+        } else if (debugMode) {
+            debug("Inventory full - discarded " + overflow.size() + " stack(s)");
         }
+    }
+
+    public DeliveryMode getDeliveryMode() {
+        return deliveryMode;
+    }
 
-        return totalAmount;
+    /**
+     * Gets the random source of all drop rolls
+     */
+    public DropRandom getRandom() {
+        return random;
     }
 
     /**
      * Sets drop method (for commands/testing)
      */
     public void setDropMethod(DropMethod method) {
-        this.dropMethod = method;
+        table = table.withDropMethod(method);
         info("Drop method changed to: " + method);
     }
 
     public DropMethod getDropMethod() {
-        return dropMethod;
+        return table.getDropMethod();
+    }
+
+    /**
+     * Gets the analytic report of the current table
+     *
+     * Built once per published table (and drop method), later calls return the cached report.
+     */
+    public DropReport getReport() {
+        CompiledDropTable table = this.table;
+        DropReport report = this.report;
+
+        if (report == null || report.getTable() != table || report.getMaxFortune() != reportMaxFortune) {
+            report = DropReport.build(table, reportMaxFortune);
+            this.report = report;
+            debug("Drop report: " + report.getRows().size() + " rows in " +
+                    String.format("%.2f", report.getBuildNanos() / 1e6) + "ms");
+        }
+        return report;
+    }
+
+    /**
+     * Whether the drop table is not built yet (waiting for Oraxen's items)
+     *
+     * While warming the table is empty, breaks give vanilla drops only.
+     */
+    public boolean isWarming() {
+        return warming;
+    }
+
+    /**
+     * Gets the currently published drop table
+     */
+    public CompiledDropTable getTable() {
+        return table;
     }
 
     protected void info(String message) {
@@ -331,19 +676,144 @@ public class BlockDropManager {
     }
 
     protected void debug(String message) {
-        if (debugMode) {
+        debug(debugMode, message);
+    }
+
+    private void debug(boolean enabled, String message) {
+        if (enabled) {
             plugin.getLogger().info("[DEBUG] " + message);
         }
     }
 
+    /**
+     * Logs a config problem and collects it for the reload report
+     */
+    private void problem(List<String> problems, String message) {
+        warn(message);
+        problems.add(message);
+    }
+
     public void setDebugMode(boolean debugMode) {
         this.debugMode = debugMode;
     }
 
-    public void reload() {
-        blockDrops.clear();
-        debugMode = plugin.getConfig().getBoolean("debug-mode", false);
-        loadConfig();
-        loadBlockDrops();
+    /**
+     * A reload built off the main thread, published with {@link #apply}
+     */
+    public static final class PreparedReload {
+        private final CompiledDropTable table;
+        private final Map<Material, ParsedBlock> parsedBlocks;
+        private final DropRandom random;
+        private final DeliveryMode deliveryMode;
+        private final boolean debugMode;
+        private final DropReport report;
+        private final List<String> problems;
+
+        private PreparedReload(CompiledDropTable table, Map<Material, ParsedBlock> parsedBlocks, DropRandom random,
+                               DeliveryMode deliveryMode, boolean debugMode, DropReport report,
+                               List<String> problems) {
+            this.table = table;
+            this.parsedBlocks = parsedBlocks;
+            this.random = random;
+            this.deliveryMode = deliveryMode;
+            this.debugMode = debugMode;
+            this.report = report;
+            this.problems = problems;
+        }
+
+        public CompiledDropTable getTable() {
+            return table;
+        }
+
+        /**
+         * Config problems found (already logged)
+         */
+        public List<String> getProblems() {
+            return problems;
+        }
+    }
+
+    /**
+     * Parses, validates and compiles a config without touching the live state
+     *
+     * Safe to call off the main thread: only reads the given config and the
+     * Oraxen item registry, builds the new table, its item prototypes and its
+     * drop report. Breaks keep using the published table.
+     *
+     * @param config Config to load from
+     * @param incremental Only validate and compile the block types whose drops
+     *                    differ from the published table, reuse the rest
+     * @param progress Receives progress messages
+     * @return Everything {@link #apply} needs to publish
+     */
+    public PreparedReload prepare(ConfigurationSection config, boolean incremental, Consumer<String> progress) {
+        long start = System.nanoTime();
+        List<String> problems = new ArrayList<>();
+        boolean debug = config.getBoolean("debug-mode", false);
+
+        DropMethod dropMethod = loadDropMethod(config, problems);
+        info("Drop method: " + dropMethod);
+
+        DeliveryMode deliveryMode = loadDeliveryMode(config, problems);
+        DropRandom random = loadRandom(config, problems);
+        info("Random: " + random);
+
+        progress.accept("Validating block drops...");
+        Map<Material, ParsedBlock> parsed = loadBlockDrops(config, dropMethod, debug,
+                incremental ? parsedBlocks : Map.of(), problems);
+
+        Map<Material, List<DropEntry>> blockDrops = new EnumMap<>(Material.class);
+        parsed.forEach((material, block) -> blockDrops.put(material, block.drops()));
+
+        CompiledDropTable compiled = CompiledDropTable.compile(blockDrops, dropMethod,
+                loadFortuneTableCap(config, problems), incremental ? table : null);
+        progress.accept(String.format("Compiled %d drops for %d blocks (%d recompiled)", compiled.getEntryCount(),
+                compiled.getBlockCount(), compiled.getCompiledBlocks()));
+
+        // Prototypes of items already in use are kept, only new ones are built
+        itemCache.warm(compiled.getItemIds());
+
+        int maxFortune = Math.max(0, config.getInt("report.max-fortune", 10));
+        DropReport report = DropReport.build(compiled, maxFortune);
+
+        debug(debug, String.format("Reload prepared in %.2fms", (System.nanoTime() - start) / 1e6));
+        return new PreparedReload(compiled, parsed, random, deliveryMode, debug, report, problems);
+    }
+
+    /**
+     * Publishes a prepared reload in one step
+     *
+     * Main thread (global region on Folia), a few field writes - breaks
+     * switch from the old to the new table between two ticks.
+     */
+    public void apply(PreparedReload prepared) {
+        debugMode = prepared.debugMode;
+        deliveryMode = prepared.deliveryMode;
+
+        random = prepared.random;
+        DropMechanics.setRandom(random);
+
+        reportMaxFortune = prepared.report.getMaxFortune();
+        parsedBlocks = prepared.parsedBlocks;
+        table = prepared.table;
+        report = prepared.report;
+        warming = false;
+    }
+
+    /**
+     * Called when Oraxen (re)loaded its items - cached prototypes are stale
+     */
+    public void onOraxenItemsReloaded() {
+        // Item IDs may have become valid or invalid, the next hot reload validates everything
+        parsedBlocks = Map.of();
+        itemCache.invalidate();
+        itemCache.warm(table.getItemIds());
+        if (debugMode) {
+            debug("Oraxen items reloaded - rebuilt " + itemCache.size() + " item prototypes");
+        }
+    }
+
+    public ItemPrototypeCache getItemCache() {
+        return itemCache;
     }
 }
\ No newline at end of file
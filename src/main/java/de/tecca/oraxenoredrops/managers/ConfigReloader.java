@@ -0,0 +1,161 @@
+package de.tecca.oraxenoredrops.managers;
+
+import de.tecca.oraxenoredrops.OraxenOreDrops;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Reloads the config without stalling the server
+ *
+ * YAML parsing, Oraxen validation, table compilation and the drop report
+ * run on a worker thread. The result is published in one step on the main
+ * thread (global region on Folia), breaks keep using the old table and
+ * config until then. A config that fails to parse is not published at all.
+ * Only one reload runs at a time.
+ */
+public class ConfigReloader {
+
+    private final OraxenOreDrops plugin;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ConfigReloader(OraxenOreDrops plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Starts a reload
+     *
+     * @param incremental Only validate and compile block types whose drops changed
+     * @param progress Receives progress and error messages (any thread)
+     * @param done Called on the main thread, true once the new config is live
+     * @return false if a reload is already running
+     */
+    public boolean reload(boolean incremental, Consumer<String> progress, Consumer<Boolean> done) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+
+        try {
+            plugin.getSchedulerAdapter().runAsync(() -> {
+                long start = System.nanoTime();
+                try {
+                    FileConfiguration config = plugin.loadConfigFile();
+
+                    BlockDropManager.PreparedReload prepared = plugin.getBlockDropManager()
+                            .prepare(config, incremental, progress);
+                    long prepareNanos = System.nanoTime() - start;
+
+                    plugin.getSchedulerAdapter().runGlobal(
+                            () -> publish(config, prepared, prepareNanos, progress, done));
+                } catch (IOException | InvalidConfigurationException e) {
+                    fail("Could not parse config.yml: " + e.getMessage(), progress, done);
+                } catch (Throwable e) {
+                    // Errors too (NoClassDefFoundError from Oraxen, OOM) - otherwise running is never reset
+                    plugin.getPluginLogger().severe("Reload error: " + e, e);
+                    fail("Error during reload: " + e.getMessage(), progress, done);
+                }
+            });
+        } catch (RuntimeException e) {
+            // Scheduler refused the task (plugin disabling)
+            running.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * Builds the first drop table (deferred startup)
+     *
+     * Runs the full reload pipeline once Oraxen's items are available, the
+     * drop table stays empty ("warming") until it is published. Calls after
+     * the table was built are ignored.
+     *
+     * @param trigger What made the items available, for the log
+     */
+    public void warmUp(String trigger) {
+        if (!plugin.getBlockDropManager().isWarming()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean started = reload(false,
+                message -> plugin.getPluginLogger().info(message.replaceAll("§.", "")),
+                success -> {
+                    if (success) {
+                        plugin.getPluginLogger().info(String.format("Drop tables ready after %.1fms",
+                                (System.nanoTime() - start) / 1e6));
+                    } else {
+                        plugin.getPluginLogger().severe("Could not build the drop tables - fix the config " +
+                                "and use /oraxenoredrops reload");
+                    }
+                });
+
+        if (started) {
+            plugin.getPluginLogger().info("Oraxen items available (" + trigger + ") - building drop tables...");
+        }
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    private void publish(FileConfiguration config, BlockDropManager.PreparedReload prepared, long prepareNanos,
+                         Consumer<String> progress, Consumer<Boolean> done) {
+        long start = System.nanoTime();
+        try {
+            plugin.publishConfig(config);
+            plugin.getBlockDropManager().apply(prepared);
+        } catch (Throwable e) {
+            plugin.getPluginLogger().severe("Reload error: " + e, e);
+            fail("Error during reload: " + e.getMessage(), progress, done);
+            return;
+        }
+
+        // The new config and table are live from here on - a component that fails
+        // to reload keeps its previous settings, the others still reload
+        List<String> failed = new ArrayList<>();
+        reloadComponent("enchant cache", () -> plugin.getEnchantProfileCache().invalidateAll(), failed);
+        reloadComponent("metrics", () -> plugin.getDropMetrics().reload(), failed);
+        reloadComponent("drop spawning", () -> plugin.getDropSpawnQueue().reload(), failed);
+        reloadComponent("break listener", () -> plugin.getBlockBreakListener().reload(), failed);
+        reloadComponent("explosion listener", () -> plugin.getExplosionListener().reload(), failed);
+        reloadComponent("placed blocks", () -> plugin.getPlacedBlockTracker().reload(), failed);
+        reloadComponent("hot reload", () -> plugin.getConfigWatcher().reload(), failed);
+        running.set(false);
+
+        if (!failed.isEmpty()) {
+            progress.accept("§cNew config and drop table are active, but " + String.join(", ", failed) +
+                    " could not reload and keep their previous settings - see console");
+        }
+
+        if (!prepared.getProblems().isEmpty()) {
+            progress.accept("§6" + prepared.getProblems().size() + " config problem(s), see console - first: " +
+                    prepared.getProblems().get(0));
+        }
+        progress.accept(String.format("Prepared in %.1fms off the main thread, published in %.2fms",
+                prepareNanos / 1e6, (System.nanoTime() - start) / 1e6));
+        done.accept(true);
+    }
+
+    private void reloadComponent(String name, Runnable reload, List<String> failed) {
+        try {
+            reload.run();
+        } catch (Throwable e) {
+            plugin.getPluginLogger().severe("Reload error (" + name + "): " + e, e);
+            failed.add(name);
+        }
+    }
+
+    private void fail(String message, Consumer<String> progress, Consumer<Boolean> done) {
+        // Reset first, the callbacks may throw
+        running.set(false);
+        progress.accept("§c" + message);
+        plugin.getSchedulerAdapter().runGlobal(() -> done.accept(false));
+    }
+}
@@ -0,0 +1,170 @@
+package de.tecca.oraxenoredrops.managers;
+
+import de.tecca.oraxenoredrops.OraxenOreDrops;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot reload: watches config.yml and reloads it when it is saved
+ *
+ * A daemon thread waits on a WatchService for the plugin data folder.
+ * Editors write a file in several steps, so a reload starts only after
+ * no change was seen for debounce-ms, and only if the content actually
+ * differs from the last loaded one. The reload is incremental (see
+ * {@link BlockDropManager#prepare}): only block types whose drops changed
+ * are validated and compiled, all of it off the main thread.
+ */
+public class ConfigWatcher {
+
+    private static final String CONFIG_FILE = "config.yml";
+
+    private final OraxenOreDrops plugin;
+    private final Path configFile;
+
+    private WatchService watchService;
+    private Thread thread;
+    private volatile long debounceMillis = 500;
+    private volatile byte[] lastContent;
+
+    public ConfigWatcher(OraxenOreDrops plugin) {
+        this.plugin = plugin;
+        this.configFile = plugin.getDataFolder().toPath().resolve(CONFIG_FILE);
+    }
+
+    /**
+     * Reads the hot-reload section of the config, starts or stops the watcher
+     */
+    public synchronized void reload() {
+        boolean enabled = plugin.getConfig().getBoolean("hot-reload.enabled", false);
+        debounceMillis = Math.max(50, plugin.getConfig().getLong("hot-reload.debounce-ms", 500));
+
+        if (enabled && thread == null) {
+            start();
+        } else if (!enabled && thread != null) {
+            shutdown();
+        }
+    }
+
+    private void start() {
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            configFile.getParent().register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            plugin.getPluginLogger().warn("Could not watch " + CONFIG_FILE + ": " + e.getMessage());
+            closeWatchService();
+            return;
+        }
+
+        lastContent = readConfig();
+        thread = new Thread(this::run, "OraxenOreDrops-ConfigWatcher");
+        thread.setDaemon(true);
+        thread.start();
+        plugin.getPluginLogger().info("Hot reload enabled - watching " + CONFIG_FILE);
+    }
+
+    /**
+     * Stops the watcher thread
+     */
+    public synchronized void shutdown() {
+        if (thread == null) {
+            return;
+        }
+        closeWatchService();
+        thread.interrupt();
+        thread = null;
+    }
+
+    public synchronized boolean isRunning() {
+        return thread != null;
+    }
+
+    private void run() {
+        WatchService watcher = watchService;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                boolean changed = consume(watcher.take());
+
+                // Debounce: wait until the file stays untouched
+                while (true) {
+                    WatchKey next = watcher.poll(debounceMillis, TimeUnit.MILLISECONDS);
+                    if (next == null) break;
+                    changed |= consume(next);
+                }
+
+                if (changed) {
+                    onChanged();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Shut down
+        }
+    }
+
+    /**
+     * Checks the events of a key for the config file and re-arms it
+     */
+    private boolean consume(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.context() instanceof Path path && path.getFileName().toString().equals(CONFIG_FILE)) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    private void onChanged() throws InterruptedException {
+        // The first table is built from the file as it is then
+        if (plugin.getBlockDropManager().isWarming()) {
+            return;
+        }
+
+        byte[] content = readConfig();
+        if (content == null || Arrays.equals(content, lastContent)) {
+            return;
+        }
+
+        // Another reload is running - try again after it
+        while (!plugin.getConfigReloader().reload(true,
+                message -> plugin.getPluginLogger().info("[Hot reload] " + message.replaceAll("§.", "")),
+                success -> {
+                    if (success) {
+                        lastContent = content;
+                    }
+                })) {
+            Thread.sleep(debounceMillis);
+        }
+    }
+
+    private byte[] readConfig() {
+        try {
+            return Files.readAllBytes(configFile);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void closeWatchService() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            // Ignore
+        }
+        watchService = null;
+    }
+}
@@ -0,0 +1,502 @@
+package de.tecca.oraxenoredrops.managers;
+
+import de.tecca.oraxenoredrops.OraxenOreDrops;
+import de.tecca.oraxenoredrops.enums.DropMethod;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Append-only audit log of custom drops
+ *
+ * The break path only claims a slot in a bounded lock-free ring buffer
+ * (multi-producer, single-consumer) and copies the record fields into
+ * parallel arrays - no locks, no allocation, no I/O. A background thread
+ * drains the buffer in batches into a binary file under ledger/, which is
+ * rotated by size. If the writer falls behind and the buffer is full,
+ * records are dropped and counted instead of blocking the server.
+ *
+ * Each record is length-prefixed. A record torn by a crash is cut off when
+ * the file is reopened, and readers skip records they cannot parse instead
+ * of losing everything after them.
+ */
+public class DropLedger {
+
+    private static final int FILE_MAGIC = 0x4F4F444C; // "OODL"
+    private static final int FILE_VERSION = 2; // 1: unframed records
+    private static final int MAX_RECORD_SIZE = 1 << 18; // 4 UTF strings of at most 64 KB each
+    private static final String CURRENT_FILE = "drops.bin";
+
+    private final OraxenOreDrops plugin;
+    private final File directory;
+
+    // ==================== RING BUFFER ====================
+
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head; // Writer thread only
+
+    private final long[] times;
+    private final UUID[] playerIds;
+    private final String[] playerNames;
+    private final Material[] materials;
+    private final String[] itemIds;
+    private final int[] amounts;
+    private final int[] fortunes;
+    private final DropMethod[] methods;
+    private final String[] worlds;
+    private final int[] xs;
+    private final int[] ys;
+    private final int[] zs;
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong written = new AtomicLong();
+
+    // ==================== WRITER ====================
+
+    private final boolean enabled;
+    private final long maxFileSize;
+    private final int maxFiles;
+    private ScheduledExecutorService writer;
+    private DataOutputStream out;
+    private long fileSize;
+    private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream(128);
+    private final DataOutputStream record = new DataOutputStream(recordBytes);
+
+    public DropLedger(OraxenOreDrops plugin) {
+        this.plugin = plugin;
+        this.directory = new File(plugin.getDataFolder(), "ledger");
+
+        this.enabled = plugin.getConfig().getBoolean("ledger.enabled", true);
+        this.maxFileSize = Math.max(1, plugin.getConfig().getLong("ledger.max-file-size-mb", 16)) * 1024 * 1024;
+        this.maxFiles = Math.max(1, plugin.getConfig().getInt("ledger.max-files", 10));
+
+        int requested = Math.max(64, plugin.getConfig().getInt("ledger.buffer-size", 8192));
+        int capacity = Integer.highestOneBit(requested - 1) << 1;
+        this.mask = capacity - 1;
+
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+
+        this.times = new long[capacity];
+        this.playerIds = new UUID[capacity];
+        this.playerNames = new String[capacity];
+        this.materials = new Material[capacity];
+        this.itemIds = new String[capacity];
+        this.amounts = new int[capacity];
+        this.fortunes = new int[capacity];
+        this.methods = new DropMethod[capacity];
+        this.worlds = new String[capacity];
+        this.xs = new int[capacity];
+        this.ys = new int[capacity];
+        this.zs = new int[capacity];
+    }
+
+    /**
+     * Starts the background writer
+     */
+    public void start() {
+        if (!enabled) return;
+
+        long interval = Math.max(50, plugin.getConfig().getLong("ledger.flush-interval-ms", 1000));
+        writer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "OraxenOreDrops-Ledger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::drain, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the writer after writing all queued records
+     */
+    public void shutdown() {
+        if (writer == null) return;
+
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (this) {
+            drain();
+            closeFile();
+        }
+        writer = null;
+    }
+
+    // ==================== RECORDING ====================
+
+    /**
+     * Queues one drop, never blocks
+     *
+     * @return false if the ledger is disabled or the buffer is full
+     */
+    public boolean record(Player player, Material material, String itemId, int amount, int fortune,
+                          DropMethod method, World world, int x, int y, int z) {
+        if (writer == null) {
+            return false;
+        }
+
+        long pos;
+        int index;
+        while (true) {
+            pos = tail.get();
+            index = (int) pos & mask;
+            long sequence = sequences.get(index);
+
+            if (sequence == pos) {
+                if (tail.compareAndSet(pos, pos + 1)) break;
+            } else if (sequence < pos) {
+                // Full - the writer is behind
+                dropped.increment();
+                return false;
+            }
+        }
+
+        times[index] = System.currentTimeMillis();
+        playerIds[index] = player != null ? player.getUniqueId() : null;
+        playerNames[index] = player != null ? player.getName() : null;
+        materials[index] = material;
+        itemIds[index] = itemId;
+        amounts[index] = amount;
+        fortunes[index] = fortune;
+        methods[index] = method;
+        worlds[index] = world.getName();
+        xs[index] = x;
+        ys[index] = y;
+        zs[index] = z;
+
+        // Publishes the fields to the writer
+        sequences.set(index, pos + 1);
+        recorded.increment();
+        return true;
+    }
+
+    // ==================== WRITING ====================
+
+    private synchronized void drain() {
+        try {
+            int count = 0;
+
+            while (true) {
+                int index = (int) head & mask;
+                if (sequences.get(index) != head + 1) break;
+
+                if (out == null || fileSize >= maxFileSize) {
+                    rotate();
+                }
+                writeRecord(index);
+
+                // Release references, hand the slot back to the producers
+                playerIds[index] = null;
+                playerNames[index] = null;
+                itemIds[index] = null;
+                sequences.set(index, head + mask + 1);
+                head++;
+                count++;
+            }
+
+            if (count > 0) {
+                out.flush();
+                written.addAndGet(count);
+            }
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not write drop ledger: " + e.getMessage());
+            closeFile();
+        }
+    }
+
+    private void writeRecord(int index) throws IOException {
+        recordBytes.reset();
+
+        record.writeLong(times[index]);
+        UUID playerId = playerIds[index];
+        record.writeLong(playerId != null ? playerId.getMostSignificantBits() : 0);
+        record.writeLong(playerId != null ? playerId.getLeastSignificantBits() : 0);
+        record.writeUTF(playerNames[index] != null ? playerNames[index] : "");
+        record.writeUTF(materials[index].name());
+        record.writeUTF(itemIds[index]);
+        record.writeInt(amounts[index]);
+        record.writeShort(fortunes[index]);
+        record.writeByte(methods[index].ordinal());
+        record.writeUTF(worlds[index]);
+        record.writeInt(xs[index]);
+        record.writeInt(ys[index]);
+        record.writeInt(zs[index]);
+
+        // The buffered stream may flush mid-record, the length lets readers resync
+        out.writeInt(recordBytes.size());
+        recordBytes.writeTo(out);
+        fileSize += 4 + recordBytes.size();
+    }
+
+    private void rotate() throws IOException {
+        closeFile();
+
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Could not create " + directory);
+        }
+
+        File current = new File(directory, CURRENT_FILE);
+        if (current.exists() && current.length() > 0) {
+            long valid = validLength(current);
+            if (valid < 0) {
+                // Older format - appending would mix formats, start a new file
+                rotateFile(current);
+            } else if (valid < current.length()) {
+                plugin.getLogger().warning("Drop ledger: cut off " + (current.length() - valid) +
+                        " bytes of an incomplete record (server crash?)");
+                try (RandomAccessFile file = new RandomAccessFile(current, "rw")) {
+                    file.setLength(valid);
+                }
+            }
+        }
+        if (current.exists() && current.length() >= maxFileSize) {
+            rotateFile(current);
+        }
+
+        boolean fresh = !current.exists() || current.length() == 0;
+        out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(current, true), 1 << 16));
+        fileSize = current.length();
+
+        if (fresh) {
+            out.writeInt(FILE_MAGIC);
+            out.writeInt(FILE_VERSION);
+            fileSize += 8;
+        }
+    }
+
+    private void rotateFile(File current) throws IOException {
+        String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        File rotated = new File(directory, "drops-" + stamp + ".bin");
+        if (!current.renameTo(rotated)) {
+            throw new IOException("Could not rotate " + current);
+        }
+        deleteOldFiles();
+    }
+
+    /**
+     * Length of the file up to the end of its last complete record
+     *
+     * @return Byte count, 0 for a torn header, -1 if the file has another version
+     */
+    private static long validLength(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 1 << 16))) {
+            long length = file.length();
+            if (length < 8) {
+                return 0;
+            }
+            if (in.readInt() != FILE_MAGIC || in.readInt() != FILE_VERSION) {
+                return -1;
+            }
+
+            long valid = 8;
+            while (length - valid >= 4) {
+                int size = in.readInt();
+                if (size <= 0 || size > MAX_RECORD_SIZE || length - valid - 4 < size) {
+                    break;
+                }
+                in.skipNBytes(size);
+                valid += 4 + size;
+            }
+            return valid;
+        }
+    }
+
+    private void deleteOldFiles() {
+        File[] rotated = directory.listFiles((dir, name) -> name.startsWith("drops-") && name.endsWith(".bin"));
+        if (rotated == null || rotated.length < maxFiles) return;
+
+        Arrays.sort(rotated, Comparator.comparing(File::getName));
+        for (int i = 0; i <= rotated.length - maxFiles; i++) {
+            rotated[i].delete();
+        }
+    }
+
+    private void closeFile() {
+        if (out == null) return;
+        try {
+            out.close();
+        } catch (IOException ignored) {
+        }
+        out = null;
+    }
+
+    // ==================== QUERY ====================
+
+    /**
+     * One record read back from the ledger files
+     */
+    public record Entry(long time, UUID playerId, String playerName, String material, String itemId,
+                        int amount, int fortune, DropMethod method, String world, int x, int y, int z) {
+    }
+
+    /**
+     * Reads the newest matching records from all ledger files
+     *
+     * Blocking file I/O - call off the main thread.
+     *
+     * @param filter Record filter
+     * @param limit Max number of records
+     * @return Matching records, newest first
+     */
+    public List<Entry> query(Predicate<Entry> filter, int limit) throws IOException {
+        // Make sure everything recorded so far is on disk
+        if (writer != null) {
+            drain();
+        }
+
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(".bin"));
+        if (files == null || files.length == 0) {
+            return List.of();
+        }
+
+        // Rotated files have sortable names, the current file is the newest
+        Arrays.sort(files, Comparator.comparing((File f) -> f.getName().equals(CURRENT_FILE))
+                .thenComparing(File::getName));
+
+        Deque<Entry> newest = new ArrayDeque<>(limit);
+        for (File file : files) {
+            readFile(file, filter, limit, newest);
+        }
+
+        List<Entry> result = new ArrayList<>(newest);
+        Collections.reverse(result);
+        return result;
+    }
+
+    private void readFile(File file, Predicate<Entry> filter, int limit, Deque<Entry> newest) throws IOException {
+        DropMethod[] methodValues = DropMethod.values();
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 1 << 16))) {
+            if (in.readInt() != FILE_MAGIC) {
+                return;
+            }
+            int version = in.readInt();
+            if (version != 1 && version != FILE_VERSION) {
+                return;
+            }
+
+            byte[] buffer = new byte[256];
+            while (true) {
+                Entry entry;
+                try {
+                    if (version == 1) {
+                        entry = readEntry(in, methodValues);
+                    } else {
+                        int size = in.readInt();
+                        if (size <= 0 || size > MAX_RECORD_SIZE) {
+                            return; // Not a record boundary, nothing after it can be trusted
+                        }
+                        if (buffer.length < size) {
+                            buffer = new byte[Math.max(size, buffer.length * 2)];
+                        }
+                        in.readFully(buffer, 0, size);
+
+                        try {
+                            entry = readEntry(new DataInputStream(new ByteArrayInputStream(buffer, 0, size)),
+                                    methodValues);
+                        } catch (IOException e) {
+                            continue; // Damaged record, the next one starts after it
+                        }
+                    }
+                } catch (EOFException e) {
+                    // End of file, or a record still being written
+                    return;
+                }
+
+                if (filter.test(entry)) {
+                    if (newest.size() == limit) {
+                        newest.removeFirst();
+                    }
+                    newest.addLast(entry);
+                }
+            }
+        } catch (EOFException e) {
+            // Empty file
+        }
+    }
+
+    private static Entry readEntry(DataInputStream in, DropMethod[] methodValues) throws IOException {
+        long time = in.readLong();
+        long most = in.readLong();
+        long least = in.readLong();
+        String playerName = in.readUTF();
+        String material = in.readUTF();
+        String itemId = in.readUTF();
+        int amount = in.readInt();
+        int fortune = in.readShort();
+        int method = in.readByte();
+        String world = in.readUTF();
+        int x = in.readInt();
+        int y = in.readInt();
+        int z = in.readInt();
+
+        return new Entry(time, most == 0 && least == 0 ? null : new UUID(most, least),
+                playerName.isEmpty() ? null : playerName, material, itemId, amount, fortune,
+                method >= 0 && method < methodValues.length ? methodValues[method] : null,
+                world, x, y, z);
+    }
+
+    // ==================== STATUS ====================
+
+    public boolean isEnabled() {
+        return writer != null;
+    }
+
+    public long getRecorded() {
+        return recorded.sum();
+    }
+
+    public long getWritten() {
+        return written.get();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Records waiting for the writer
+     */
+    public long getQueued() {
+        return Math.max(0, getRecorded() - getWritten());
+    }
+}
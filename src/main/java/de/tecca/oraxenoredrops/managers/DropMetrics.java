@@ -0,0 +1,306 @@
+package de.tecca.oraxenoredrops.managers;
+
+import de.tecca.oraxenoredrops.OraxenOreDrops;
+import de.tecca.oraxenoredrops.util.LatencyHistogram;
+import de.tecca.oraxenoredrops.util.SchedulerAdapter;
+import org.bukkit.Material;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histogram of the drop pipeline
+ *
+ * All counters are striped LongAdders, recording never locks and only
+ * allocates the first time a material or Oraxen ID is seen, so metrics
+ * can stay enabled in production.
+ */
+public class DropMetrics {
+
+    private static final Material[] MATERIALS = Material.values();
+
+    private final OraxenOreDrops plugin;
+
+    private volatile boolean enabled;
+    private SchedulerAdapter.Task snapshotTask;
+    private volatile File snapshotFile;
+    private volatile long resetAt = System.currentTimeMillis();
+
+    private final LongAdder breaksSeen = new LongAdder();
+    private final LongAdder fastRejects = new LongAdder();
+    private final LongAdder rolls = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder itemsDropped = new LongAdder();
+    private final LatencyHistogram breakLatency = new LatencyHistogram();
+
+    private final AtomicReferenceArray<Counters> byMaterial = new AtomicReferenceArray<>(MATERIALS.length);
+    private final Map<String, Counters> byItem = new ConcurrentHashMap<>();
+
+    public DropMetrics(OraxenOreDrops plugin) {
+        this.plugin = plugin;
+        reload();
+    }
+
+    /**
+     * Counters of one material or Oraxen item
+     */
+    public static final class Counters {
+        final LongAdder rolls = new LongAdder();
+        final LongAdder hits = new LongAdder();
+        final LongAdder items = new LongAdder();
+
+        public long rolls() {
+            return rolls.sum();
+        }
+
+        public long hits() {
+            return hits.sum();
+        }
+
+        public long items() {
+            return items.sum();
+        }
+    }
+
+    // ==================== RECORDING ====================
+
+    /**
+     * Records a break of a block type without drops
+     */
+    public void recordFastReject() {
+        if (!enabled) return;
+        breaksSeen.increment();
+        fastRejects.increment();
+    }
+
+    /**
+     * Records breaks of block types with drops, whether they are rolled or not
+     *
+     * Counted once per block right after the fast reject, so silk-touch and
+     * player-placed breaks are included.
+     */
+    public void recordBreaksSeen(int blocks) {
+        if (!enabled) return;
+        breaksSeen.add(blocks);
+    }
+
+    /**
+     * Records a break that reached the drop roll
+     */
+    public void recordBreak(Material material) {
+        if (!enabled) return;
+        rolls.increment();
+        materialCounters(material).rolls.increment();
+    }
+
+    /**
+     * Records a batch of breaks rolled together
+     *
+     * The breaks themselves are counted by {@link #recordBreaksSeen}.
+     *
+     * @param blocks Blocks broken
+     * @param rolled Blocks actually rolled after sampling
+     */
+    public void recordBulk(Material material, int blocks, int rolled) {
+        if (!enabled) return;
+        rolls.add(rolled);
+        materialCounters(material).rolls.add(rolled);
+    }
+
+    /**
+     * Records one successful drop entry
+     */
+    public void recordDrop(Material material, String oraxenItemId, int amount) {
+        if (!enabled) return;
+        hits.increment();
+        itemsDropped.add(amount);
+
+        Counters perMaterial = materialCounters(material);
+        perMaterial.hits.increment();
+        perMaterial.items.add(amount);
+
+        Counters item = byItem.computeIfAbsent(oraxenItemId, id -> new Counters());
+        item.hits.increment();
+        item.items.add(amount);
+    }
+
+    /**
+     * Records the time spent in the break handler
+     */
+    public void recordLatency(long nanos) {
+        if (!enabled) return;
+        breakLatency.record(nanos);
+    }
+
+    private Counters materialCounters(Material material) {
+        int ordinal = material.ordinal();
+        Counters counters = byMaterial.get(ordinal);
+        if (counters == null) {
+            byMaterial.compareAndSet(ordinal, null, new Counters());
+            counters = byMaterial.get(ordinal);
+        }
+        return counters;
+    }
+
+    // ==================== READING ====================
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getBreaksSeen() {
+        return breaksSeen.sum();
+    }
+
+    public long getFastRejects() {
+        return fastRejects.sum();
+    }
+
+    public long getRolls() {
+        return rolls.sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getItemsDropped() {
+        return itemsDropped.sum();
+    }
+
+    public LatencyHistogram getBreakLatency() {
+        return breakLatency;
+    }
+
+    /**
+     * Time of the last reset (or plugin start)
+     */
+    public long getResetAt() {
+        return resetAt;
+    }
+
+    /**
+     * Gets the counters of all materials that were rolled, most rolls first
+     */
+    public List<Map.Entry<Material, Counters>> getMaterialCounters() {
+        List<Map.Entry<Material, Counters>> result = new ArrayList<>();
+        for (int i = 0; i < MATERIALS.length; i++) {
+            Counters counters = byMaterial.get(i);
+            if (counters != null) {
+                result.add(Map.entry(MATERIALS[i], counters));
+            }
+        }
+        result.sort(Comparator.comparingLong((Map.Entry<Material, Counters> e) -> e.getValue().rolls()).reversed());
+        return result;
+    }
+
+    /**
+     * Gets the counters of all dropped Oraxen items, most items first
+     */
+    public List<Map.Entry<String, Counters>> getItemCounters() {
+        List<Map.Entry<String, Counters>> result = new ArrayList<>(byItem.entrySet());
+        result.sort(Comparator.comparingLong((Map.Entry<String, Counters> e) -> e.getValue().items()).reversed());
+        return result;
+    }
+
+    public void reset() {
+        breaksSeen.reset();
+        fastRejects.reset();
+        rolls.reset();
+        hits.reset();
+        itemsDropped.reset();
+        breakLatency.reset();
+        for (int i = 0; i < MATERIALS.length; i++) {
+            byMaterial.set(i, null);
+        }
+        byItem.clear();
+        resetAt = System.currentTimeMillis();
+    }
+
+    // ==================== SNAPSHOTS ====================
+
+    /**
+     * Reads the metrics section of the config and (re)starts the snapshot task
+     */
+    public void reload() {
+        enabled = plugin.getConfig().getBoolean("metrics.enabled", true);
+        snapshotFile = new File(plugin.getDataFolder(),
+                plugin.getConfig().getString("metrics.snapshot-file", "metrics.yml"));
+
+        if (snapshotTask != null) {
+            snapshotTask.cancel();
+            snapshotTask = null;
+        }
+
+        long interval = plugin.getConfig().getLong("metrics.snapshot-interval", 300);
+        if (!enabled || interval <= 0) {
+            return;
+        }
+
+        snapshotTask = plugin.getSchedulerAdapter().runAsyncTimer(this::writeSnapshot, interval * 20L, interval * 20L);
+    }
+
+    /**
+     * Writes the current values to the snapshot file in the data folder
+     */
+    public void writeSnapshot() {
+        YamlConfiguration yaml = new YamlConfiguration();
+        yaml.set("timestamp", System.currentTimeMillis());
+        yaml.set("since", resetAt);
+        yaml.set("breaks-seen", getBreaksSeen());
+        yaml.set("fast-rejects", getFastRejects());
+        yaml.set("rolls", getRolls());
+        yaml.set("hits", getHits());
+        yaml.set("items-dropped", getItemsDropped());
+
+        yaml.set("latency-ns.count", breakLatency.count());
+        yaml.set("latency-ns.mean", breakLatency.mean());
+        yaml.set("latency-ns.p50", breakLatency.percentile(50));
+        yaml.set("latency-ns.p90", breakLatency.percentile(90));
+        yaml.set("latency-ns.p99", breakLatency.percentile(99));
+        yaml.set("latency-ns.p999", breakLatency.percentile(99.9));
+        yaml.set("latency-ns.max", breakLatency.max());
+
+        for (Map.Entry<Material, Counters> e : getMaterialCounters()) {
+            String path = "materials." + e.getKey().name();
+            yaml.set(path + ".rolls", e.getValue().rolls());
+            yaml.set(path + ".hits", e.getValue().hits());
+            yaml.set(path + ".items", e.getValue().items());
+        }
+
+        // Oraxen IDs may contain dots, keep them as list entries
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (Map.Entry<String, Counters> e : getItemCounters()) {
+            items.add(Map.of(
+                    "id", e.getKey(),
+                    "hits", e.getValue().hits(),
+                    "items", e.getValue().items()
+            ));
+        }
+        yaml.set("items", items);
+
+        try {
+            yaml.save(snapshotFile);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not write metrics snapshot: " + e.getMessage());
+        }
+    }
+
+    public void shutdown() {
+        if (snapshotTask != null) {
+            snapshotTask.cancel();
+            snapshotTask = null;
+        }
+        if (enabled) {
+            writeSnapshot();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package de.tecca.oraxenoredrops.managers;
+
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import de.tecca.oraxenoredrops.OraxenOreDrops;
+import de.tecca.oraxenoredrops.enums.SpawnMode;
+import de.tecca.oraxenoredrops.util.SchedulerAdapter;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects drops per location cell and spawns them merged
+ *
+ * A vein-mine or explosion produces many small stacks of the same item
+ * within a few blocks. Instead of one Item entity per stack (which the
+ * server then merges again), drops are grouped into cells of cell-size
+ * blocks, identical stacks are combined up to their max stack size and
+ * the result is spawned in one flush at the end of the tick.
+ *
+ * Main thread only. On Folia there is no common tick end and regions
+ * tick on different threads, so drops are spawned right away by the
+ * region owning their location and nothing is queued.
+ */
+public class DropSpawnQueue implements Listener {
+
+    private final OraxenOreDrops plugin;
+    private final SchedulerAdapter scheduler;
+
+    private final Map<Cell, PendingDrops> pending = new HashMap<>();
+
+    // Written by reload() on the main thread (global region), read by region threads
+    private volatile SpawnMode mode = SpawnMode.PER_TICK;
+    private volatile int flushInterval = 1;
+    private volatile int cellShift = 1;
+    private int ticksSinceFlush;
+
+    public DropSpawnQueue(OraxenOreDrops plugin) {
+        this.plugin = plugin;
+        this.scheduler = plugin.getSchedulerAdapter();
+        reload();
+    }
+
+    /**
+     * Reads the drop-spawning section of the config
+     */
+    public void reload() {
+        String modeStr = plugin.getConfig().getString("drop-spawning.mode", "PER_TICK");
+        try {
+            mode = SpawnMode.valueOf(modeStr.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("Invalid drop-spawning mode: " + modeStr + ", using PER_TICK");
+            mode = SpawnMode.PER_TICK;
+        }
+
+        flushInterval = Math.max(1, plugin.getConfig().getInt("drop-spawning.flush-interval", 5));
+
+        // Cells are powers of two so the cell of a block is a shift
+        int cellSize = Math.max(1, plugin.getConfig().getInt("drop-spawning.cell-size", 2));
+        cellShift = 31 - Integer.numberOfLeadingZeros(cellSize);
+
+        if (mode == SpawnMode.IMMEDIATE) {
+            flush();
+        }
+    }
+
+    /**
+     * Spawns a drop at a block, now or with the next flush
+     *
+     * Oversized drops (bulk rolls, inventory leftovers) are split into stacks
+     * of at most the max stack size - a single Item entity must not exceed it.
+     *
+     * @param location Location of the broken block
+     * @param item Drop, must not be modified by the caller afterwards
+     */
+    public void spawn(Location location, ItemStack item) {
+        int maxStack = Math.max(1, item.getMaxStackSize());
+        int remaining = item.getAmount();
+        while (remaining > maxStack) {
+            ItemStack full = item.clone();
+            full.setAmount(maxStack);
+            spawnStack(location, full);
+            remaining -= maxStack;
+        }
+
+        if (remaining != item.getAmount()) {
+            item.setAmount(remaining);
+        }
+        spawnStack(location, item);
+    }
+
+    private void spawnStack(Location location, ItemStack item) {
+        if (scheduler.isRegionized()) {
+            scheduler.runAt(location, () -> location.getWorld().dropItemNaturally(location, item));
+            return;
+        }
+
+        if (mode == SpawnMode.IMMEDIATE) {
+            location.getWorld().dropItemNaturally(location, item);
+            return;
+        }
+
+        Cell cell = new Cell(location.getWorld(),
+                location.getBlockX() >> cellShift,
+                location.getBlockY() >> cellShift,
+                location.getBlockZ() >> cellShift);
+
+        pending.computeIfAbsent(cell, c -> new PendingDrops(location)).add(item);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTickEnd(ServerTickEndEvent event) {
+        if (pending.isEmpty()) {
+            ticksSinceFlush = 0;
+            return;
+        }
+
+        if (mode == SpawnMode.PER_N_TICKS && ++ticksSinceFlush < flushInterval) {
+            return;
+        }
+
+        flush();
+    }
+
+    /**
+     * Spawns all pending drops
+     */
+    public void flush() {
+        ticksSinceFlush = 0;
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        for (PendingDrops drops : pending.values()) {
+            World world = drops.location.getWorld();
+            if (world == null) continue;
+
+            for (ItemStack item : drops.stacks) {
+                world.dropItemNaturally(drops.location, item);
+            }
+        }
+
+        pending.clear();
+    }
+
+    /**
+     * Number of cells waiting for the next flush
+     */
+    public int getPendingCells() {
+        return pending.size();
+    }
+
+    public SpawnMode getMode() {
+        return scheduler.isRegionized() ? SpawnMode.IMMEDIATE : mode;
+    }
+
+    private record Cell(World world, int x, int y, int z) {
+    }
+
+    private static final class PendingDrops {
+        private final Location location;
+        private final List<ItemStack> stacks = new ArrayList<>(4);
+
+        private PendingDrops(Location location) {
+            this.location = location;
+        }
+
+        private void add(ItemStack item) {
+            int remaining = item.getAmount();
+
+            for (ItemStack stack : stacks) {
+                int space = stack.getMaxStackSize() - stack.getAmount();
+                if (space <= 0 || !stack.isSimilar(item)) continue;
+
+                int moved = Math.min(space, remaining);
+                stack.setAmount(stack.getAmount() + moved);
+                remaining -= moved;
+                if (remaining == 0) return;
+            }
+
+            item.setAmount(remaining);
+            stacks.add(item);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package de.tecca.oraxenoredrops.managers;
+
+import de.tecca.oraxenoredrops.model.EnchantProfile;
+import de.tecca.oraxenoredrops.util.EnchantmentHelper;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.inventory.meta.Damageable;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the enchant profile of each player's held tool
+ *
+ * Resolving a profile costs several AE NBT lookups, but a player mining
+ * (or vein-mining) keeps the same tool for hundreds of breaks. An entry
+ * is reused while the held slot, item type and item meta stay the same
+ * and is dropped on any event that can change the held item. The meta
+ * hash catches tools swapped or re-enchanted without such an event
+ * (plugins, anvils in other slots, /give into the held slot).
+ */
+public class EnchantProfileCache {
+
+    private final Map<UUID, CachedProfile> profiles = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the profile of the player's main hand tool
+     */
+    public EnchantProfile get(Player player) {
+        PlayerInventory inventory = player.getInventory();
+        ItemStack tool = inventory.getItemInMainHand();
+        int slot = inventory.getHeldItemSlot();
+        Material type = tool.getType();
+        int metaHash = metaHash(tool);
+
+        CachedProfile cached = profiles.get(player.getUniqueId());
+        if (cached != null && cached.slot == slot && cached.type == type && cached.metaHash == metaHash) {
+            return cached.profile;
+        }
+
+        EnchantProfile profile = EnchantmentHelper.getProfile(tool);
+        profiles.put(player.getUniqueId(), new CachedProfile(slot, type, metaHash, profile));
+        return profile;
+    }
+
+    /**
+     * Hash of the tool's meta, ignoring durability
+     *
+     * The held stack is a fresh mirror on every call, so the meta is compared
+     * instead of the instance. Damage changes with every break and would make
+     * each lookup a miss, so it is reset on the (copied) meta before hashing.
+     */
+    private static int metaHash(ItemStack tool) {
+        if (!tool.hasItemMeta()) {
+            return 0;
+        }
+        ItemMeta meta = tool.getItemMeta();
+        if (meta instanceof Damageable damageable) {
+            damageable.setDamage(0);
+        }
+        return meta.hashCode();
+    }
+
+    /**
+     * Forgets the cached profile of a player (held item may have changed)
+     */
+    public void invalidate(Player player) {
+        profiles.remove(player.getUniqueId());
+    }
+
+    public void invalidateAll() {
+        profiles.clear();
+    }
+
+    private record CachedProfile(int slot, Material type, int metaHash, EnchantProfile profile) {
+    }
+}
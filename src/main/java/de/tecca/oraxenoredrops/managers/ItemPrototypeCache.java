@@ -0,0 +1,94 @@
+package de.tecca.oraxenoredrops.managers;
+
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Caches one built ItemStack per Oraxen item ID
+ *
+ * Building an Oraxen item (registry lookup, meta, PDC, lore) is the most
+ * expensive part of a successful drop. The prototype is built once per
+ * reload and every drop gets a clone of it with the amount set.
+ *
+ * Must be invalidated whenever Oraxen reloads its items.
+ */
+public class ItemPrototypeCache {
+
+    private final Function<String, ItemStack> itemFactory;
+    private final Map<String, ItemStack> prototypes = new ConcurrentHashMap<>();
+    private final Set<String> missing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param itemFactory Builds a fresh item for an Oraxen ID, returns null if unknown
+     */
+    public ItemPrototypeCache(Function<String, ItemStack> itemFactory) {
+        this.itemFactory = itemFactory;
+    }
+
+    /**
+     * Creates a drop from the cached prototype
+     *
+     * @param oraxenItemId The Oraxen item ID
+     * @param amount Stack size
+     * @return New ItemStack or null if the item does not exist
+     */
+    public ItemStack create(String oraxenItemId, int amount) {
+        ItemStack prototype = getPrototype(oraxenItemId);
+        if (prototype == null) {
+            return null;
+        }
+
+        ItemStack item = prototype.clone();
+        item.setAmount(amount);
+        return item;
+    }
+
+    /**
+     * Gets the shared prototype, building it on first access
+     *
+     * The returned stack must not be modified.
+     */
+    public ItemStack getPrototype(String oraxenItemId) {
+        if (oraxenItemId == null) {
+            return null;
+        }
+
+        ItemStack prototype = prototypes.get(oraxenItemId);
+        if (prototype != null || missing.contains(oraxenItemId)) {
+            return prototype;
+        }
+
+        prototype = itemFactory.apply(oraxenItemId);
+        if (prototype == null) {
+            missing.add(oraxenItemId);
+            return null;
+        }
+
+        prototypes.put(oraxenItemId, prototype);
+        return prototype;
+    }
+
+    /**
+     * Builds prototypes for all given IDs up front, in parallel
+     */
+    public void warm(Collection<String> oraxenItemIds) {
+        oraxenItemIds.parallelStream().forEach(this::getPrototype);
+    }
+
+    /**
+     * Drops all prototypes, they are rebuilt on next access
+     */
+    public void invalidate() {
+        prototypes.clear();
+        missing.clear();
+    }
+
+    public int size() {
+        return prototypes.size();
+    }
+}
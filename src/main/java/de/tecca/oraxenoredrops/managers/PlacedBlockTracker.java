@@ -0,0 +1,449 @@
+package de.tecca.oraxenoredrops.managers;
+
+import de.tecca.oraxenoredrops.OraxenOreDrops;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.entity.FallingBlock;
+import org.bukkit.event.block.BlockBurnEvent;
+import org.bukkit.event.block.BlockFadeEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.block.LeavesDecayEvent;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldSaveEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which blocks were placed by players, so they give no custom drops
+ *
+ * Only block types with drops configured are tracked. Each chunk section
+ * (16x16x16) that holds at least one tracked block gets a 4096-bit bitset
+ * (long[64], 512 bytes), chunks without tracked blocks cost nothing.
+ * Memory budget: 2000 loaded chunks with one such section each are
+ * about 1 MB, there are no per-block objects.
+ *
+ * The bitsets are stored in the chunk's PersistentDataContainer as one
+ * long[] of (section index, 64 words) records and follow chunk
+ * load/unload. Main thread only.
+ *
+ * Flags follow blocks moved by pistons and placed gravity blocks while
+ * they fall (the falling entity carries the flag to where it lands).
+ * Blocks that burn, fade, decay or are washed away lose their flag, so
+ * whatever grows there later gives drops again.
+ *
+ * On Folia a chunk's bitset is only touched by the region thread owning
+ * the chunk, the maps are concurrent. Nothing may walk all chunks from
+ * one thread there, so changes are written to the chunk right away
+ * instead of on world save, and chunks loaded before the tracker was
+ * enabled are read on first access.
+ */
+public class PlacedBlockTracker implements Listener {
+
+    private static final int SECTION_WORDS = 64; // 4096 bits
+
+    private final OraxenOreDrops plugin;
+    private final NamespacedKey key;
+    private final NamespacedKey fallingKey;
+    private final boolean regionized;
+
+    private final Map<UUID, Map<Long, ChunkBits>> worlds = new ConcurrentHashMap<>();
+    // Written by reload() on the main thread (global region), read by region threads
+    private volatile boolean enabled;
+
+    public PlacedBlockTracker(OraxenOreDrops plugin) {
+        this.plugin = plugin;
+        this.key = new NamespacedKey(plugin, "placed_blocks");
+        this.fallingKey = new NamespacedKey(plugin, "placed_falling_block");
+        this.regionized = plugin.getSchedulerAdapter().isRegionized();
+        reload();
+    }
+
+    /**
+     * Reads the config, loads the bitsets of all chunks that are already loaded
+     */
+    public void reload() {
+        boolean wasEnabled = enabled;
+        enabled = plugin.getConfig().getBoolean("placed-blocks.enabled", true);
+
+        if (enabled && !wasEnabled && !regionized) {
+            for (World world : Bukkit.getWorlds()) {
+                for (Chunk chunk : world.getLoadedChunks()) {
+                    load(chunk);
+                }
+            }
+        } else if (!enabled && wasEnabled) {
+            saveAll();
+            worlds.clear();
+        }
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Checks if a block was placed by a player
+     *
+     * O(1): one map lookup for the chunk, one bit test.
+     */
+    public boolean isPlaced(Block block) {
+        if (!enabled) return false;
+        ChunkBits bits = getChunk(block.getWorld(), block.getX() >> 4, block.getZ() >> 4);
+        return bits != null && bits.get(block.getX(), block.getY(), block.getZ());
+    }
+
+    /**
+     * Checks and clears the placed flag of a broken block
+     *
+     * @return true if the block was placed by a player
+     */
+    public boolean consumePlaced(Block block) {
+        if (!enabled) return false;
+        ChunkBits bits = getChunk(block.getWorld(), block.getX() >> 4, block.getZ() >> 4);
+        if (bits == null || !bits.get(block.getX(), block.getY(), block.getZ())) {
+            return false;
+        }
+        bits.set(block.getX(), block.getY(), block.getZ(), false);
+        writeThrough(block.getWorld(), block.getX() >> 4, block.getZ() >> 4, bits);
+        return true;
+    }
+
+    // ==================== EVENTS ====================
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        if (!enabled) return;
+
+        Block block = event.getBlockPlaced();
+        if (plugin.getBlockDropManager().hasDrops(block.getType())) {
+            markPlaced(block);
+        }
+    }
+
+    /**
+     * Carries the flag of a placed gravity block (sand, gravel) to where it lands
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFallingBlock(EntityChangeBlockEvent event) {
+        if (!enabled || !(event.getEntity() instanceof FallingBlock falling)) return;
+
+        if (event.getTo().isAir()) {
+            // Starts falling - the flag moves to the entity
+            if (consumePlaced(event.getBlock())) {
+                falling.getPersistentDataContainer().set(fallingKey, PersistentDataType.BYTE, (byte) 1);
+            }
+        } else if (falling.getPersistentDataContainer().has(fallingKey)
+                && plugin.getBlockDropManager().hasDrops(event.getTo())) {
+            // Lands
+            markPlaced(event.getBlock());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBurn(BlockBurnEvent event) {
+        consumePlaced(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFade(BlockFadeEvent event) {
+        consumePlaced(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onLeavesDecay(LeavesDecayEvent event) {
+        consumePlaced(event.getBlock());
+    }
+
+    /**
+     * Fluids washing away a block (crops, torches, ...)
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFluidBreak(BlockFromToEvent event) {
+        consumePlaced(event.getToBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(BlockPistonExtendEvent event) {
+        moveBlocks(event.getBlocks(), event.getDirection());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(BlockPistonRetractEvent event) {
+        moveBlocks(event.getBlocks(), event.getDirection());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        if (enabled) load(event.getChunk());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        if (!enabled) return;
+
+        Chunk chunk = event.getChunk();
+        Map<Long, ChunkBits> chunks = worlds.get(chunk.getWorld().getUID());
+        if (chunks == null) return;
+
+        ChunkBits bits = chunks.remove(chunkKey(chunk.getX(), chunk.getZ()));
+        if (bits != null) {
+            save(chunk, bits);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldSave(WorldSaveEvent event) {
+        if (enabled && !regionized) saveWorld(event.getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        if (!enabled) return;
+        if (!regionized) saveWorld(event.getWorld());
+        worlds.remove(event.getWorld().getUID());
+    }
+
+    /**
+     * Writes all dirty bitsets into their chunks (plugin disable)
+     */
+    public void saveAll() {
+        if (regionized) return; // Written through
+
+        for (World world : Bukkit.getWorlds()) {
+            saveWorld(world);
+        }
+    }
+
+    /**
+     * Number of chunks with tracked blocks currently in memory
+     */
+    public int getTrackedChunks() {
+        int count = 0;
+        for (Map<Long, ChunkBits> chunks : worlds.values()) {
+            count += chunks.size();
+        }
+        return count;
+    }
+
+    // ==================== INTERNAL ====================
+
+    /**
+     * Shifts the placed flags of blocks moved by a piston
+     */
+    private void moveBlocks(List<Block> blocks, BlockFace direction) {
+        if (!enabled || blocks.isEmpty()) return;
+
+        List<Block> placed = new ArrayList<>();
+        for (Block block : blocks) {
+            if (consumePlaced(block)) {
+                placed.add(block);
+            }
+        }
+
+        for (Block block : placed) {
+            int x = block.getX() + direction.getModX();
+            int y = block.getY() + direction.getModY();
+            int z = block.getZ() + direction.getModZ();
+
+            ChunkBits bits = getOrCreateChunk(block.getWorld(), x >> 4, z >> 4);
+            bits.set(x, y, z, true);
+            writeThrough(block.getWorld(), x >> 4, z >> 4, bits);
+        }
+    }
+
+    private void markPlaced(Block block) {
+        ChunkBits bits = getOrCreateChunk(block.getWorld(), block.getX() >> 4, block.getZ() >> 4);
+        bits.set(block.getX(), block.getY(), block.getZ(), true);
+        writeThrough(block.getWorld(), block.getX() >> 4, block.getZ() >> 4, bits);
+    }
+
+    private ChunkBits getChunk(World world, int chunkX, int chunkZ) {
+        if (regionized) {
+            return getOrCreateChunk(world, chunkX, chunkZ);
+        }
+        Map<Long, ChunkBits> chunks = worlds.get(world.getUID());
+        return chunks == null ? null : chunks.get(chunkKey(chunkX, chunkZ));
+    }
+
+    private ChunkBits getOrCreateChunk(World world, int chunkX, int chunkZ) {
+        Map<Long, ChunkBits> chunks = worlds.computeIfAbsent(world.getUID(), id -> new ConcurrentHashMap<>());
+        ChunkBits bits = chunks.get(chunkKey(chunkX, chunkZ));
+        if (bits == null) {
+            // Folia: the chunk may have been loaded before the tracker was enabled
+            if (regionized) {
+                bits = decode(world, world.getChunkAt(chunkX, chunkZ));
+            }
+            if (bits == null) {
+                bits = new ChunkBits(world.getMinHeight() >> 4, world.getMaxHeight() >> 4);
+            }
+            chunks.put(chunkKey(chunkX, chunkZ), bits);
+        }
+        return bits;
+    }
+
+    /**
+     * Folia: writes a changed bitset into its chunk right away
+     */
+    private void writeThrough(World world, int chunkX, int chunkZ, ChunkBits bits) {
+        if (regionized) {
+            save(world.getChunkAt(chunkX, chunkZ), bits);
+        }
+    }
+
+    private void load(Chunk chunk) {
+        World world = chunk.getWorld();
+        ChunkBits bits = decode(world, chunk);
+        if (bits != null) {
+            worlds.computeIfAbsent(world.getUID(), id -> new ConcurrentHashMap<>())
+                    .put(chunkKey(chunk.getX(), chunk.getZ()), bits);
+        }
+    }
+
+    private ChunkBits decode(World world, Chunk chunk) {
+        long[] data = chunk.getPersistentDataContainer().get(key, PersistentDataType.LONG_ARRAY);
+        if (data == null || data.length == 0) {
+            return null;
+        }
+        return ChunkBits.decode(data, world.getMinHeight() >> 4, world.getMaxHeight() >> 4);
+    }
+
+    private void save(Chunk chunk, ChunkBits bits) {
+        if (!bits.dirty) return;
+
+        PersistentDataContainer pdc = chunk.getPersistentDataContainer();
+        long[] data = bits.encode();
+        if (data.length == 0) {
+            pdc.remove(key);
+        } else {
+            pdc.set(key, PersistentDataType.LONG_ARRAY, data);
+        }
+        bits.dirty = false;
+    }
+
+    private void saveWorld(World world) {
+        Map<Long, ChunkBits> chunks = worlds.get(world.getUID());
+        if (chunks == null) return;
+
+        for (Map.Entry<Long, ChunkBits> e : chunks.entrySet()) {
+            if (!e.getValue().dirty) continue;
+            int chunkX = (int) (e.getKey() >> 32);
+            int chunkZ = (int) e.getKey().longValue();
+            if (world.isChunkLoaded(chunkX, chunkZ)) {
+                save(world.getChunkAt(chunkX, chunkZ), e.getValue());
+            }
+        }
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Placed flags of one chunk, one lazily allocated bitset per section
+     */
+    private static final class ChunkBits {
+        private final int minSection;
+        private final long[][] sections;
+        private boolean dirty;
+
+        private ChunkBits(int minSection, int maxSection) {
+            this.minSection = minSection;
+            this.sections = new long[Math.max(1, maxSection - minSection)][];
+        }
+
+        private boolean get(int x, int y, int z) {
+            int section = (y >> 4) - minSection;
+            if (section < 0 || section >= sections.length || sections[section] == null) {
+                return false;
+            }
+            int index = index(x, y, z);
+            return (sections[section][index >>> 6] & (1L << index)) != 0;
+        }
+
+        private void set(int x, int y, int z, boolean placed) {
+            int section = (y >> 4) - minSection;
+            if (section < 0 || section >= sections.length) {
+                return;
+            }
+
+            long[] words = sections[section];
+            if (words == null) {
+                if (!placed) return;
+                words = sections[section] = new long[SECTION_WORDS];
+            }
+
+            int index = index(x, y, z);
+            if (placed) {
+                words[index >>> 6] |= 1L << index;
+            } else {
+                words[index >>> 6] &= ~(1L << index);
+            }
+            dirty = true;
+        }
+
+        private static int index(int x, int y, int z) {
+            return ((y & 15) << 8) | ((z & 15) << 4) | (x & 15);
+        }
+
+        /**
+         * Serializes all non-empty sections as (section index, 64 words) records
+         */
+        private long[] encode() {
+            int used = 0;
+            for (long[] words : sections) {
+                if (words != null && !isEmpty(words)) used++;
+            }
+
+            long[] data = new long[used * (SECTION_WORDS + 1)];
+            int pos = 0;
+            for (int i = 0; i < sections.length; i++) {
+                long[] words = sections[i];
+                if (words == null || isEmpty(words)) continue;
+                data[pos++] = i + minSection;
+                System.arraycopy(words, 0, data, pos, SECTION_WORDS);
+                pos += SECTION_WORDS;
+            }
+            return data;
+        }
+
+        private static ChunkBits decode(long[] data, int minSection, int maxSection) {
+            ChunkBits bits = new ChunkBits(minSection, maxSection);
+            boolean any = false;
+
+            for (int pos = 0; pos + SECTION_WORDS + 1 <= data.length; pos += SECTION_WORDS + 1) {
+                int section = (int) data[pos] - minSection;
+                if (section < 0 || section >= bits.sections.length) continue;
+
+                long[] words = new long[SECTION_WORDS];
+                System.arraycopy(data, pos + 1, words, 0, SECTION_WORDS);
+                bits.sections[section] = words;
+                any = true;
+            }
+            return any ? bits : null;
+        }
+
+        private static boolean isEmpty(long[] words) {
+            for (long word : words) {
+                if (word != 0) return false;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,399 @@
+package de.tecca.oraxenoredrops.managers;
+
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks vein-miner sessions per player
+ *
+ * Vein-mining is detected from the server tick: a vein miner (or area
+ * tool) breaks all of its blocks within the tick of the original break,
+ * so every further break of the same player in the same tick belongs to
+ * a batch. Batches are collected per material and handed out once at the
+ * end of the tick, to be rolled in one aggregated draw.
+ *
+ * All breaks arrive on the main thread, so sessions are plain objects with
+ * primitive fields in an open-addressing map keyed by entity id - no locks,
+ * no boxing, no lambdas. Idle sessions expire through a hashed timing
+ * wheel advanced once per tick, which only visits the sessions due in
+ * that tick instead of scanning all of them.
+ *
+ * Main thread only. On Folia (regionized) a player's breaks run on
+ * whichever pooled region thread owns the player at the time, so sessions
+ * live in a concurrent map keyed by entity id instead. A player is only
+ * ever ticked by one region at a time, so their session is never used by
+ * two threads at once. There is no tick end: idle sessions are reset
+ * lazily on the next break and removed when the player quits.
+ */
+public class VeinMinerTracker implements Listener {
+
+    // Sessions idle for this many ticks are dropped (with their sample carry)
+    public static final int SESSION_TIMEOUT_TICKS = 10;
+
+    // Must be larger than the timeout, power of two
+    private static final int WHEEL_SIZE = 64;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final Session[] wheel = new Session[WHEEL_SIZE];
+    private int lastAdvancedTick = Integer.MIN_VALUE;
+
+    // Sessions with a batch waiting for the end of the tick
+    private final List<Session> pendingBatches = new ArrayList<>();
+
+    private int[] keys = new int[64];
+    private Session[] values = new Session[64];
+    private int shift = 32 - 6;
+    private int size;
+
+    // Folia: sessions keyed by entity id, no timing wheel and no batches
+    private final boolean regionized;
+    private final Map<Integer, Session> regionSessions = new ConcurrentHashMap<>();
+
+    public VeinMinerTracker(boolean regionized) {
+        this.regionized = regionized;
+    }
+
+    /**
+     * Vein-miner state of one player
+     */
+    public static final class Session {
+        private final int entityId;
+        private int lastBreakTick;
+        private int breaksThisTick;
+        private int sampleCarry;
+
+        // Batch of the current tick, Material -> count as parallel arrays
+        private Player batchPlayer;
+        private Location batchLocation;
+        private int batchFortune;
+        private Material[] batchMaterials = new Material[2];
+        private int[] batchCounts = new int[2];
+        private int batchSize;
+
+        // Timing wheel slot list
+        private int expireTick;
+        private Session prev;
+        private Session next;
+
+        private Session(int entityId) {
+            this.entityId = entityId;
+        }
+
+        /**
+         * Whether this is not the first break of the player in this tick
+         */
+        public boolean isVeinMining() {
+            return breaksThisTick > 1;
+        }
+
+        public int getBreaksThisTick() {
+            return breaksThisTick;
+        }
+
+        /**
+         * Applies 1-in-rate sampling to a number of blocks
+         *
+         * The remainder is carried over to the next batch, so over a whole
+         * session exactly every rate-th block is rolled.
+         *
+         * @return Number of blocks to roll
+         */
+        public int takeSampled(int blocks, int rate) {
+            if (rate <= 1) {
+                return blocks;
+            }
+            int total = sampleCarry + blocks;
+            sampleCarry = total % rate;
+            return total / rate;
+        }
+
+        private void addToBatch(Material material) {
+            for (int i = 0; i < batchSize; i++) {
+                if (batchMaterials[i] == material) {
+                    batchCounts[i]++;
+                    return;
+                }
+            }
+            if (batchSize == batchMaterials.length) {
+                batchMaterials = Arrays.copyOf(batchMaterials, batchSize * 2);
+                batchCounts = Arrays.copyOf(batchCounts, batchSize * 2);
+            }
+            batchMaterials[batchSize] = material;
+            batchCounts[batchSize] = 1;
+            batchSize++;
+        }
+
+        private void clearBatch() {
+            Arrays.fill(batchMaterials, 0, batchSize, null);
+            batchSize = 0;
+            batchPlayer = null;
+            batchLocation = null;
+        }
+    }
+
+    /**
+     * Receives the batches at the end of the tick, once per material
+     */
+    @FunctionalInterface
+    public interface BatchHandler {
+        void handle(Session session, Player player, Location location, int fortuneLevel,
+                    Material material, int blocks);
+    }
+
+    /**
+     * Records a break and returns the player's session
+     */
+    public Session recordBreak(Player player) {
+        int now = Bukkit.getCurrentTick();
+        int entityId = player.getEntityId();
+
+        if (regionized) {
+            return recordRegionBreak(entityId, now);
+        }
+
+        // No tick end event advanced the wheel (Folia)
+        if (lastAdvancedTick != now - 1 && lastAdvancedTick != now) {
+            advance(now - 1);
+        }
+
+        Session session = get(entityId);
+        if (session == null) {
+            session = new Session(entityId);
+            put(session);
+        } else {
+            unschedule(session);
+        }
+
+        if (session.lastBreakTick != now) {
+            session.breaksThisTick = 0;
+        }
+
+        session.lastBreakTick = now;
+        session.breaksThisTick++;
+        schedule(session, now + SESSION_TIMEOUT_TICKS + 1);
+        return session;
+    }
+
+    /**
+     * Folia: records a break in the player's concurrent session
+     */
+    private Session recordRegionBreak(int entityId, int now) {
+        Session session = regionSessions.computeIfAbsent(entityId, Session::new);
+
+        // Idle sessions expire with their sample carry, like on the timing wheel
+        if (session.breaksThisTick > 0 && now - session.lastBreakTick > SESSION_TIMEOUT_TICKS) {
+            session.sampleCarry = 0;
+        }
+        if (session.lastBreakTick != now) {
+            session.breaksThisTick = 0;
+        }
+
+        session.lastBreakTick = now;
+        session.breaksThisTick++;
+        return session;
+    }
+
+    /**
+     * Adds a vein-mined block to the session's batch of this tick
+     *
+     * @param session Session returned by {@link #recordBreak}
+     * @param player Breaking player
+     * @param location Location of the block, drops of the batch spawn at the last one
+     * @param fortuneLevel Fortune level of the tool
+     * @param material Block type
+     */
+    public void addToBatch(Session session, Player player, Location location, int fortuneLevel, Material material) {
+        if (session.batchSize == 0) {
+            pendingBatches.add(session);
+        }
+        session.batchPlayer = player;
+        session.batchLocation = location;
+        session.batchFortune = fortuneLevel;
+        session.addToBatch(material);
+    }
+
+    /**
+     * Hands all batches of this tick to the handler and clears them
+     */
+    public void drainBatches(BatchHandler handler) {
+        if (pendingBatches.isEmpty()) {
+            return;
+        }
+
+        for (int i = 0; i < pendingBatches.size(); i++) {
+            Session session = pendingBatches.get(i);
+            for (int m = 0; m < session.batchSize; m++) {
+                handler.handle(session, session.batchPlayer, session.batchLocation, session.batchFortune,
+                        session.batchMaterials[m], session.batchCounts[m]);
+            }
+            session.clearBatch();
+        }
+
+        pendingBatches.clear();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTickEnd(ServerTickEndEvent event) {
+        advance(event.getTickNumber());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        if (regionized) {
+            regionSessions.remove(event.getPlayer().getEntityId());
+            return;
+        }
+
+        Session session = remove(event.getPlayer().getEntityId());
+        if (session != null) {
+            unschedule(session);
+        }
+    }
+
+    public int size() {
+        return regionized ? regionSessions.size() : size;
+    }
+
+    public void clear() {
+        regionSessions.clear();
+        Arrays.fill(wheel, null);
+        Arrays.fill(values, null);
+        pendingBatches.clear();
+        size = 0;
+    }
+
+    // ==================== TIMING WHEEL ====================
+
+    private void schedule(Session session, int expireTick) {
+        session.expireTick = expireTick;
+        int slot = expireTick & WHEEL_MASK;
+
+        session.prev = null;
+        session.next = wheel[slot];
+        if (session.next != null) {
+            session.next.prev = session;
+        }
+        wheel[slot] = session;
+    }
+
+    private void unschedule(Session session) {
+        if (session.prev != null) {
+            session.prev.next = session.next;
+        } else if (wheel[session.expireTick & WHEEL_MASK] == session) {
+            wheel[session.expireTick & WHEEL_MASK] = session.next;
+        }
+        if (session.next != null) {
+            session.next.prev = session.prev;
+        }
+        session.prev = null;
+        session.next = null;
+    }
+
+    /**
+     * Expires all sessions due up to the given tick
+     */
+    private void advance(int tick) {
+        int from = lastAdvancedTick == Integer.MIN_VALUE || tick - lastAdvancedTick > WHEEL_SIZE
+                ? tick - WHEEL_SIZE + 1
+                : lastAdvancedTick + 1;
+        lastAdvancedTick = tick;
+
+        for (int t = from; t - tick <= 0; t++) {
+            Session session = wheel[t & WHEEL_MASK];
+            while (session != null) {
+                Session next = session.next;
+                if (session.expireTick - tick <= 0) {
+                    unschedule(session);
+                    remove(session.entityId);
+                }
+                session = next;
+            }
+        }
+    }
+
+    // ==================== SESSION MAP ====================
+
+    private int indexOf(int key) {
+        // Fibonacci hashing, entity ids are mostly sequential
+        return (key * 0x9E3779B9) >>> shift;
+    }
+
+    private Session get(int entityId) {
+        for (int i = indexOf(entityId); values[i] != null; i = (i + 1) & (keys.length - 1)) {
+            if (keys[i] == entityId) {
+                return values[i];
+            }
+        }
+        return null;
+    }
+
+    private void put(Session session) {
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+
+        int i = indexOf(session.entityId);
+        while (values[i] != null && keys[i] != session.entityId) {
+            i = (i + 1) & (keys.length - 1);
+        }
+        if (values[i] == null) {
+            size++;
+        }
+        keys[i] = session.entityId;
+        values[i] = session;
+    }
+
+    private Session remove(int entityId) {
+        int mask = keys.length - 1;
+        int i = indexOf(entityId);
+        while (values[i] != null && keys[i] != entityId) {
+            i = (i + 1) & mask;
+        }
+
+        Session removed = values[i];
+        if (removed == null) {
+            return null;
+        }
+
+        // Backward shift deletion keeps probe chains intact without tombstones
+        int gap = i;
+        for (int j = (gap + 1) & mask; values[j] != null; j = (j + 1) & mask) {
+            int home = indexOf(keys[j]);
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                keys[gap] = keys[j];
+                values[gap] = values[j];
+                gap = j;
+            }
+        }
+        values[gap] = null;
+        size--;
+        return removed;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Session[] oldValues = values;
+        keys = new int[capacity];
+        values = new Session[capacity];
+        shift = 32 - Integer.numberOfTrailingZeros(capacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                put(oldValues[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package de.tecca.oraxenoredrops.model;
+
+import de.tecca.oraxenoredrops.enums.DropMethod;
+import de.tecca.oraxenoredrops.util.DropMechanics;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Precomputed amount distributions of one drop entry
+ *
+ * BONUS_ROLLS / HYBRID: distribution of the sum of k amounts (min..max),
+ * so k successful rolls cost one draw instead of k.
+ * DIMINISHING: distribution of min..max plus the Fortune bonus items of
+ * {@link DropMechanics#calculateDropAmount} per Fortune level, and the
+ * summed base amounts for bulk rolls.
+ *
+ * All tables are stored as CDFs of the offset above the minimum. Tables
+ * are capped at MAX_CELLS per entry; amounts outside the tables (very wide
+ * min..max ranges, very high Fortune levels) are drawn directly instead.
+ */
+public final class AmountDistribution {
+
+    // Upper bound for precomputed CDF cells per entry (8 bytes each)
+    private static final int MAX_CELLS = 1 << 14;
+
+    // Precomputed sums for DIMINISHING bulk rolls, larger counts are chunked
+    private static final int DIMINISHING_MAX_SUM = 64;
+
+    // Direct sums above this count use the normal approximation
+    private static final int DIRECT_EXACT_MAX = 16;
+
+    private final int minAmount;
+    private final int maxAmount;
+    private final int span;
+
+    // [k - 1] -> CDF of the summed offset of k amounts
+    private final double[][] sumCdf;
+
+    // [level] -> CDF of the offset of one DIMINISHING drop
+    private final double[][] fortuneCdf;
+
+    private AmountDistribution(int minAmount, int maxAmount, double[][] sumCdf, double[][] fortuneCdf) {
+        this.minAmount = minAmount;
+        this.maxAmount = maxAmount;
+        this.span = maxAmount - minAmount + 1;
+        this.sumCdf = sumCdf;
+        this.fortuneCdf = fortuneCdf;
+    }
+
+    /**
+     * Builds the distributions needed by the given drop method
+     *
+     * @param dropMethod Drop method of the entry
+     * @param minAmount Min amount
+     * @param maxAmount Max amount
+     * @param fortuneTable Roll parameters of the entry
+     * @return New distribution
+     */
+    public static AmountDistribution build(DropMethod dropMethod, int minAmount, int maxAmount,
+                                           FortuneTable fortuneTable) {
+        int span = maxAmount - minAmount + 1;
+
+        if (dropMethod == DropMethod.DIMINISHING) {
+            return new AmountDistribution(minAmount, maxAmount,
+                    span > 1 ? buildSumCdfs(span, DIMINISHING_MAX_SUM) : new double[0][],
+                    buildFortuneCdfs(span, fortuneTable.maxLevel()));
+        }
+
+        int maxRolls = 1;
+        for (int level = 0; level <= fortuneTable.maxLevel(); level++) {
+            maxRolls = Math.max(maxRolls, fortuneTable.rolls(level));
+        }
+
+        return new AmountDistribution(minAmount, maxAmount,
+                span > 1 ? buildSumCdfs(span, maxRolls) : new double[0][], new double[0][]);
+    }
+
+    // ==================== SAMPLING ====================
+
+    /**
+     * Draws the total amount of k successful rolls
+     *
+     * @param successes Number of successful rolls
+     * @param random Random source
+     * @return Sum of k amounts, each uniform in min..max
+     */
+    public int sampleSum(int successes, RandomGenerator random) {
+        if (successes <= 0) {
+            return 0;
+        }
+
+        int total = successes * minAmount;
+        if (span == 1) {
+            return total;
+        }
+        if (sumCdf.length == 0) {
+            return total + sampleSumDirect(successes, random);
+        }
+
+        // Counts above the precomputed range are drawn in chunks
+        int remaining = successes;
+        while (remaining > 0) {
+            int chunk = Math.min(remaining, sumCdf.length);
+            total += search(sumCdf[chunk - 1], random.nextDouble());
+            remaining -= chunk;
+        }
+
+        return total;
+    }
+
+    /**
+     * Draws the amount of one DIMINISHING drop
+     *
+     * @param fortuneLevel Fortune level
+     * @param random Random source
+     * @return Amount including Fortune bonus items
+     */
+    public int sampleWithFortune(int fortuneLevel, RandomGenerator random) {
+        int level = Math.max(0, fortuneLevel);
+        if (level >= fortuneCdf.length) {
+            return DropMechanics.calculateDropAmount(minAmount, maxAmount, level, random);
+        }
+        return minAmount + search(fortuneCdf[level], random.nextDouble());
+    }
+
+    /**
+     * Draws the total amount of several DIMINISHING drops
+     *
+     * The base amounts are drawn as one sum, the Fortune bonus items of all
+     * drops as one binomial per bonus chance (1/1, 1/2, ... 1/level).
+     *
+     * @param drops Number of successful drops
+     * @param fortuneLevel Fortune level
+     * @param random Random source
+     * @return Sum of the amounts of all drops
+     */
+    public int sampleSumWithFortune(int drops, int fortuneLevel, RandomGenerator random) {
+        if (drops <= 0) {
+            return 0;
+        }
+        if (drops == 1) {
+            return sampleWithFortune(fortuneLevel, random);
+        }
+
+        int total = sampleSum(drops, random);
+        for (int i = 1; i <= fortuneLevel; i++) {
+            total += DropMechanics.sampleBinomial(drops, 1.0 / i, random);
+        }
+        return total;
+    }
+
+    /**
+     * Draws the summed offset of k amounts without tables
+     *
+     * Used when min..max is too wide to precompute. Small counts are drawn
+     * one by one, larger ones from the normal approximation of the sum.
+     */
+    private int sampleSumDirect(int successes, RandomGenerator random) {
+        if (successes <= DIRECT_EXACT_MAX) {
+            int total = 0;
+            for (int i = 0; i < successes; i++) {
+                total += random.nextInt(span);
+            }
+            return total;
+        }
+
+        double mean = successes * (span - 1) / 2.0;
+        double deviation = Math.sqrt(successes * ((double) span * span - 1) / 12.0);
+        double max = (double) successes * (span - 1);
+        double sum = Math.round(mean + deviation * random.nextGaussian());
+        return (int) Math.max(0, Math.min(max, sum));
+    }
+
+    public int minAmount() {
+        return minAmount;
+    }
+
+    public int maxAmount() {
+        return maxAmount;
+    }
+
+    // ==================== BUILDING ====================
+
+    private static double[][] buildSumCdfs(int span, int maxRolls) {
+        // Too wide for even one table, sampleSum draws directly
+        if (span > MAX_CELLS) {
+            return new double[0][];
+        }
+
+        // Limit k so the tables stay within MAX_CELLS
+        int cells = 0;
+        int maxK = 0;
+        while (maxK < maxRolls) {
+            int next = (maxK + 1) * (span - 1) + 1;
+            if (cells + next > MAX_CELLS) break;
+            cells += next;
+            maxK++;
+        }
+
+        double[][] cdfs = new double[maxK][];
+        double[] pmf = uniform(span);
+        cdfs[0] = toCdf(pmf);
+
+        for (int k = 2; k <= maxK; k++) {
+            pmf = convolveUniform(pmf, span);
+            cdfs[k - 1] = toCdf(pmf);
+        }
+
+        return cdfs;
+    }
+
+    private static double[][] buildFortuneCdfs(int span, int maxLevel) {
+        // Level L needs span + L cells, higher levels fall back to DropMechanics
+        long cells = 0;
+        int levels = 0;
+        while (levels <= maxLevel && cells + span + levels <= MAX_CELLS) {
+            cells += span + levels;
+            levels++;
+        }
+        maxLevel = levels - 1;
+
+        double[][] cdfs = new double[levels][];
+
+        // Bonus items: sum of independent rolls with chance 1/1, 1/2, ... 1/level
+        double[] bonus = {1.0};
+        for (int level = 0; level <= maxLevel; level++) {
+            if (level > 0) {
+                double chance = 1.0 / level;
+                double[] next = new double[bonus.length + 1];
+                for (int i = 0; i < bonus.length; i++) {
+                    next[i] += bonus[i] * (1.0 - chance);
+                    next[i + 1] += bonus[i] * chance;
+                }
+                bonus = next;
+            }
+            cdfs[level] = toCdf(convolveUniform(bonus, span));
+        }
+
+        return cdfs;
+    }
+
+    private static double[] uniform(int span) {
+        double[] pmf = new double[span];
+        Arrays.fill(pmf, 1.0 / span);
+        return pmf;
+    }
+
+    /**
+     * Convolves a distribution with the uniform distribution over 0..span-1
+     */
+    private static double[] convolveUniform(double[] pmf, int span) {
+        double[] result = new double[pmf.length + span - 1];
+        double window = 0;
+        for (int j = 0; j < result.length; j++) {
+            if (j < pmf.length) window += pmf[j];
+            if (j - span >= 0) window -= pmf[j - span];
+            result[j] = window / span;
+        }
+        return result;
+    }
+
+    private static double[] toCdf(double[] pmf) {
+        double[] cdf = new double[pmf.length];
+        double sum = 0;
+        for (int i = 0; i < pmf.length; i++) {
+            sum += pmf[i];
+            cdf[i] = sum;
+        }
+        cdf[cdf.length - 1] = 1.0;
+        return cdf;
+    }
+
+    /**
+     * Index of the first CDF value above u
+     */
+    private static int search(double[] cdf, double u) {
+        int low = 0;
+        int high = cdf.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cdf[mid] > u) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,185 @@
+package de.tecca.oraxenoredrops.model;
+
+import de.tecca.oraxenoredrops.enums.DropMethod;
+import de.tecca.oraxenoredrops.util.DropAnalytics;
+import de.tecca.oraxenoredrops.util.DropMechanics;
+import de.tecca.oraxenoredrops.util.DropMechanics.DropRarity;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Immutable, pre-resolved form of a {@link DropEntry}
+ *
+ * Built once per reload by {@link CompiledDropTable}, so the break path
+ * never has to classify the chance again
+ */
+public final class CompiledDropEntry {
+
+    private final DropEntry source;
+    private final int itemIndex;
+    private final DropMethod dropMethod;
+    private final DropRarity rarity;
+    private final FortuneTable fortuneTable;
+    private final AmountDistribution amounts;
+
+    public CompiledDropEntry(DropEntry source, int itemIndex, DropMethod dropMethod, int fortuneTableCap) {
+        this.source = source;
+        this.itemIndex = itemIndex;
+        this.dropMethod = dropMethod;
+        this.rarity = DropRarity.fromChance(source.chance());
+        this.fortuneTable = FortuneTable.build(dropMethod, source.chance(), rarity, fortuneTableCap);
+        this.amounts = AmountDistribution.build(dropMethod, source.minAmount(), source.maxAmount(), fortuneTable);
+    }
+
+    private CompiledDropEntry(CompiledDropEntry other, int itemIndex) {
+        this.source = other.source;
+        this.itemIndex = itemIndex;
+        this.dropMethod = other.dropMethod;
+        this.rarity = other.rarity;
+        this.fortuneTable = other.fortuneTable;
+        this.amounts = other.amounts;
+    }
+
+    /**
+     * Same entry under another item index, shares the precomputed tables
+     */
+    public CompiledDropEntry withItemIndex(int itemIndex) {
+        return itemIndex == this.itemIndex ? this : new CompiledDropEntry(this, itemIndex);
+    }
+
+    /**
+     * Rolls this entry using its precomputed Fortune table
+     *
+     * A single draw decides whether any roll succeeds. Only on a hit the
+     * first successful roll is placed (inverse geometric), the remaining
+     * successes are drawn from a binomial distribution and the summed
+     * amount from the entry's amount distribution. This gives the same
+     * distribution as rolling each attempt on its own, at a cost that does
+     * not depend on the Fortune level.
+     *
+     * @param fortuneLevel Fortune/Looting level
+     * @param random Random source
+     * @return Total amount, 0 on a miss
+     */
+    public int roll(int fortuneLevel, RandomGenerator random) {
+        double roll = random.nextDouble() * 100;
+
+        if (roll >= fortuneTable.totalChance(fortuneLevel)) {
+            return 0;
+        }
+
+        // METHOD 1: Diminishing Returns - single roll, Fortune adds bonus items
+        if (dropMethod == DropMethod.DIMINISHING) {
+            return amounts.sampleWithFortune(fortuneLevel, random);
+        }
+
+        // METHOD 2/3: Bonus Rolls / Hybrid - at least one roll succeeded
+        int rolls = fortuneTable.rolls(fortuneLevel);
+        double chancePerRoll = fortuneTable.chancePerRoll(fortuneLevel) / 100.0;
+
+        int firstHit = chancePerRoll >= 1.0 ? 0
+                : (int) (Math.log1p(-roll / 100.0) / Math.log1p(-chancePerRoll));
+        firstHit = Math.min(firstHit, rolls - 1);
+
+        int successes = 1 + DropMechanics.sampleBinomial(rolls - firstHit - 1, chancePerRoll, random);
+        return amounts.sampleSum(successes, random);
+    }
+
+    /**
+     * Rolls this entry for several blocks at once
+     *
+     * Same distribution as calling {@link #roll} once per block: the
+     * successes of all blocks are one binomial draw (blocks x rolls for
+     * BONUS_ROLLS/HYBRID, blocks for DIMINISHING) and their amounts one
+     * draw from the summed amount distribution.
+     *
+     * @param blocks Number of blocks
+     * @param fortuneLevel Fortune/Looting level
+     * @param random Random source
+     * @return Total amount of all blocks, 0 if nothing dropped
+     */
+    public int rollBulk(int blocks, int fortuneLevel, RandomGenerator random) {
+        if (blocks <= 0) {
+            return 0;
+        }
+        if (blocks == 1) {
+            return roll(fortuneLevel, random);
+        }
+
+        if (dropMethod == DropMethod.DIMINISHING) {
+            int hits = DropMechanics.sampleBinomial(blocks, fortuneTable.totalChance(fortuneLevel) / 100.0, random);
+            return amounts.sampleSumWithFortune(hits, Math.max(0, fortuneLevel), random);
+        }
+
+        long trials = (long) blocks * fortuneTable.rolls(fortuneLevel);
+        int successes = DropMechanics.sampleBinomial((int) Math.min(Integer.MAX_VALUE, trials),
+                fortuneTable.chancePerRoll(fortuneLevel) / 100.0, random);
+        return amounts.sampleSum(successes, random);
+    }
+
+    // ==================== ANALYTIC ====================
+
+    /**
+     * Chance in % that a break drops at least one item of this entry
+     */
+    public double hitChance(int fortuneLevel) {
+        return DropAnalytics.hitChance(fortuneTable, source.minAmount(), source.maxAmount(), fortuneLevel);
+    }
+
+    /**
+     * Expected amount per break, exact for the distribution {@link #roll} draws from
+     */
+    public double expectedAmount(int fortuneLevel) {
+        return DropAnalytics.mean(fortuneTable, source.minAmount(), source.maxAmount(), fortuneLevel);
+    }
+
+    /**
+     * Variance of the amount per break
+     */
+    public double amountVariance(int fortuneLevel) {
+        return DropAnalytics.variance(fortuneTable, source.minAmount(), source.maxAmount(), fortuneLevel);
+    }
+
+    public DropEntry source() {
+        return source;
+    }
+
+    /**
+     * Index of the Oraxen item in {@link CompiledDropTable#getItemId(int)}
+     */
+    public int itemIndex() {
+        return itemIndex;
+    }
+
+    public String oraxenItemId() {
+        return source.oraxenItemId();
+    }
+
+    public double chance() {
+        return source.chance();
+    }
+
+    public int minAmount() {
+        return source.minAmount();
+    }
+
+    public int maxAmount() {
+        return source.maxAmount();
+    }
+
+    public DropMethod dropMethod() {
+        return dropMethod;
+    }
+
+    public DropRarity rarity() {
+        return rarity;
+    }
+
+    public FortuneTable fortuneTable() {
+        return fortuneTable;
+    }
+
+    public AmountDistribution amounts() {
+        return amounts;
+    }
+}
@@ -0,0 +1,267 @@
+package de.tecca.oraxenoredrops.model;
+
+import de.tecca.oraxenoredrops.enums.DropMethod;
+import org.bukkit.Material;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Immutable snapshot of the block-drops config
+ *
+ * Entries are stored in a flat array indexed by {@link Material#ordinal()},
+ * so a lookup on the break path is a single array load. Which block types
+ * have drops at all is kept in a separate bitset, so rejecting the common
+ * unconfigured break touches one long. A new table is
+ * compiled on every reload and published as a whole - readers never see
+ * a half-filled table. An incremental compile reuses the precomputed
+ * entries of every block type whose config did not change.
+ */
+public final class CompiledDropTable {
+
+    private static final CompiledDropEntry[] NO_ENTRIES = new CompiledDropEntry[0];
+    private static final Material[] MATERIALS = Material.values();
+
+    public static final CompiledDropTable EMPTY = compile(Collections.emptyMap(), DropMethod.HYBRID, 0);
+
+    private final CompiledDropEntry[][] entriesByMaterial;
+    private final long[] configured; // bit per Material ordinal
+    private final Map<Material, List<DropEntry>> sources;
+    private final String[] itemIds;
+    private final DropMethod dropMethod;
+    private final int fortuneTableCap;
+    private final int blockCount;
+    private final int entryCount;
+    private final int compiledBlocks;
+
+    private CompiledDropTable(CompiledDropEntry[][] entriesByMaterial, long[] configured,
+                              Map<Material, List<DropEntry>> sources, String[] itemIds,
+                              DropMethod dropMethod, int fortuneTableCap,
+                              int blockCount, int entryCount, int compiledBlocks) {
+        this.entriesByMaterial = entriesByMaterial;
+        this.configured = configured;
+        this.sources = sources;
+        this.itemIds = itemIds;
+        this.dropMethod = dropMethod;
+        this.fortuneTableCap = fortuneTableCap;
+        this.blockCount = blockCount;
+        this.entryCount = entryCount;
+        this.compiledBlocks = compiledBlocks;
+    }
+
+    /**
+     * Compiles the parsed config into a lookup table
+     *
+     * @param drops Validated drop entries per block type
+     * @param dropMethod Drop method the table is compiled for
+     * @param fortuneTableCap Highest Fortune level with precomputed roll parameters
+     * @return New immutable table
+     */
+    public static CompiledDropTable compile(Map<Material, List<DropEntry>> drops,
+                                            DropMethod dropMethod, int fortuneTableCap) {
+        return compile(drops, dropMethod, fortuneTableCap, null);
+    }
+
+    /**
+     * Compiles the parsed config, reusing the unchanged block types of a previous table
+     *
+     * Block types with the same entries as in the previous table (and the
+     * same drop method and Fortune table cap) keep their Fortune tables and
+     * amount distributions, only their item indices are renumbered.
+     *
+     * @param drops Validated drop entries per block type
+     * @param dropMethod Drop method the table is compiled for
+     * @param fortuneTableCap Highest Fortune level with precomputed roll parameters
+     * @param previous Table to reuse entries from, null to compile everything
+     * @return New immutable table
+     */
+    public static CompiledDropTable compile(Map<Material, List<DropEntry>> drops, DropMethod dropMethod,
+                                            int fortuneTableCap, CompiledDropTable previous) {
+        boolean reusable = previous != null && previous.dropMethod == dropMethod
+                && previous.fortuneTableCap == fortuneTableCap;
+        CompiledDropEntry[][] table = new CompiledDropEntry[MATERIALS.length][];
+        long[] configured = new long[(MATERIALS.length + 63) >>> 6];
+        Map<Material, List<DropEntry>> sources = new EnumMap<>(Material.class);
+        Map<String, Integer> itemIndices = new HashMap<>();
+        int blockCount = 0;
+        int entryCount = 0;
+        int compiledBlocks = 0;
+
+        for (Map.Entry<Material, List<DropEntry>> e : drops.entrySet()) {
+            List<DropEntry> list = e.getValue();
+            if (list == null || list.isEmpty()) continue;
+
+            CompiledDropEntry[] unchanged = reusable && list.equals(previous.sources.get(e.getKey()))
+                    ? previous.getEntries(e.getKey())
+                    : null;
+            if (unchanged == null) {
+                compiledBlocks++;
+            }
+
+            CompiledDropEntry[] compiled = new CompiledDropEntry[list.size()];
+            for (int i = 0; i < compiled.length; i++) {
+                DropEntry entry = list.get(i);
+                int itemIndex = itemIndices.computeIfAbsent(entry.oraxenItemId(), id -> itemIndices.size());
+                compiled[i] = unchanged != null
+                        ? unchanged[i].withItemIndex(itemIndex)
+                        : new CompiledDropEntry(entry, itemIndex, dropMethod, fortuneTableCap);
+            }
+
+            int ordinal = e.getKey().ordinal();
+            table[ordinal] = compiled;
+            configured[ordinal >>> 6] |= 1L << ordinal;
+            sources.put(e.getKey(), List.copyOf(list));
+            blockCount++;
+            entryCount += compiled.length;
+        }
+
+        for (int i = 0; i < table.length; i++) {
+            if (table[i] == null) {
+                table[i] = NO_ENTRIES;
+            }
+        }
+
+        String[] itemIds = new String[itemIndices.size()];
+        itemIndices.forEach((id, index) -> itemIds[index] = id);
+
+        return new CompiledDropTable(table, configured, Collections.unmodifiableMap(sources), itemIds, dropMethod, fortuneTableCap, blockCount, entryCount, compiledBlocks);
+    }
+
+    /**
+     * Recompiles the same config for another drop method
+     */
+    public CompiledDropTable withDropMethod(DropMethod method) {
+        return compile(sources, method, fortuneTableCap);
+    }
+
+    /**
+     * Gets the compiled entries of a block type
+     *
+     * The returned array is shared and must not be modified.
+     *
+     * @param material Block type
+     * @return Entries, empty array if the block has no drops
+     */
+    public CompiledDropEntry[] getEntries(Material material) {
+        return entriesByMaterial[material.ordinal()];
+    }
+
+    /**
+     * Checks if a block type has any drops configured
+     */
+    public boolean hasDrops(Material material) {
+        int ordinal = material.ordinal();
+        return (configured[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * Rolls all entries of a block type into a sink
+     *
+     * Does not allocate - the sink receives (item index, amount) pairs,
+     * see {@link #getItemId(int)}.
+     *
+     * @param material Block type
+     * @param fortuneLevel Fortune/Looting level
+     * @param sink Receives the successful drops
+     * @param random Random source
+     * @return Number of drops written to the sink
+     */
+    public int rollInto(Material material, int fortuneLevel, DropSink sink, RandomGenerator random) {
+        CompiledDropEntry[] entries = entriesByMaterial[material.ordinal()];
+        int dropped = 0;
+
+        for (CompiledDropEntry entry : entries) {
+            int amount = entry.roll(fortuneLevel, random);
+            if (amount > 0) {
+                sink.accept(entry.itemIndex(), amount);
+                dropped++;
+            }
+        }
+
+        return dropped;
+    }
+
+    /**
+     * Rolls all entries of a block type for several blocks at once
+     *
+     * Costs one aggregated draw per entry instead of one roll per block,
+     * see {@link CompiledDropEntry#rollBulk}. Each entry writes at most one
+     * (item index, summed amount) pair.
+     *
+     * @param material Block type
+     * @param blocks Number of blocks
+     * @param fortuneLevel Fortune/Looting level
+     * @param sink Receives the successful drops
+     * @param random Random source
+     * @return Number of drops written to the sink
+     */
+    public int rollBulkInto(Material material, int blocks, int fortuneLevel, DropSink sink, RandomGenerator random) {
+        CompiledDropEntry[] entries = entriesByMaterial[material.ordinal()];
+        int dropped = 0;
+
+        for (CompiledDropEntry entry : entries) {
+            int amount = entry.rollBulk(blocks, fortuneLevel, random);
+            if (amount > 0) {
+                sink.accept(entry.itemIndex(), amount);
+                dropped++;
+            }
+        }
+
+        return dropped;
+    }
+
+    /**
+     * Gets the Oraxen item ID of an item index
+     */
+    public String getItemId(int itemIndex) {
+        return itemIds[itemIndex];
+    }
+
+    /**
+     * Number of distinct Oraxen items, item indices are 0..count-1
+     */
+    public int getItemCount() {
+        return itemIds.length;
+    }
+
+    /**
+     * Gets the config the table was compiled from
+     */
+    public Map<Material, List<DropEntry>> getSources() {
+        return sources;
+    }
+
+    /**
+     * Gets all distinct Oraxen item IDs referenced by the table, by item index
+     */
+    public List<String> getItemIds() {
+        return List.of(itemIds);
+    }
+
+    public DropMethod getDropMethod() {
+        return dropMethod;
+    }
+
+    public int getFortuneTableCap() {
+        return fortuneTableCap;
+    }
+
+    public int getBlockCount() {
+        return blockCount;
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Number of block types whose entries were built by this compile (not reused)
+     */
+    public int getCompiledBlocks() {
+        return compiledBlocks;
+    }
+}
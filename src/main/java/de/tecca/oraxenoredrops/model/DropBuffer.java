@@ -0,0 +1,57 @@
+package de.tecca.oraxenoredrops.model;
+
+import java.util.Arrays;
+
+/**
+ * Reusable primitive buffer for rolled drops
+ *
+ * Not thread-safe - keep one per thread and {@link #clear()} it before
+ * each roll. Only grows, so steady-state rolling does not allocate.
+ */
+public final class DropBuffer implements DropSink {
+
+    private int[] itemIndices;
+    private int[] amounts;
+    private int size;
+
+    public DropBuffer() {
+        this(8);
+    }
+
+    public DropBuffer(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        this.itemIndices = new int[capacity];
+        this.amounts = new int[capacity];
+    }
+
+    @Override
+    public void accept(int itemIndex, int amount) {
+        if (size == itemIndices.length) {
+            itemIndices = Arrays.copyOf(itemIndices, size * 2);
+            amounts = Arrays.copyOf(amounts, size * 2);
+        }
+        itemIndices[size] = itemIndex;
+        amounts[size] = amount;
+        size++;
+    }
+
+    public int itemIndex(int i) {
+        return itemIndices[i];
+    }
+
+    public int amount(int i) {
+        return amounts[i];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,176 @@
+package de.tecca.oraxenoredrops.model;
+
+import de.tecca.oraxenoredrops.enums.DropMethod;
+import de.tecca.oraxenoredrops.util.DropAnalytics;
+import org.bukkit.Material;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Analytic drop rates of a whole compiled table
+ *
+ * One row per (block type, entry, drop method, Fortune 0..maxFortune) with
+ * the exact chance of a drop, mean and variance of the amount per break,
+ * see {@link DropAnalytics}. Built from the table's config, so it covers
+ * all drop methods, not only the active one. Immutable, built once per
+ * table.
+ */
+public final class DropReport {
+
+    /**
+     * Analytic values of one entry at one Fortune level
+     *
+     * @param hitChance Chance in % that a break drops the entry at all
+     * @param mean Expected amount per break
+     * @param variance Variance of the amount per break
+     */
+    public record Row(Material material, String itemId, double baseChance, int minAmount, int maxAmount,
+                      DropMethod method, int fortune, int rolls, double chancePerRoll,
+                      double hitChance, double mean, double variance) {
+
+        public double standardDeviation() {
+            return Math.sqrt(variance);
+        }
+    }
+
+    private final CompiledDropTable table;
+    private final int maxFortune;
+    private final List<Row> rows;
+    private final long createdAt;
+    private final long buildNanos;
+
+    private DropReport(CompiledDropTable table, int maxFortune, List<Row> rows, long buildNanos) {
+        this.table = table;
+        this.maxFortune = maxFortune;
+        this.rows = rows;
+        this.createdAt = System.currentTimeMillis();
+        this.buildNanos = buildNanos;
+    }
+
+    /**
+     * Computes the report of a table
+     *
+     * @param table Compiled table
+     * @param maxFortune Highest Fortune level in the report
+     * @return New report
+     */
+    public static DropReport build(CompiledDropTable table, int maxFortune) {
+        long start = System.nanoTime();
+        int levels = Math.max(0, maxFortune) + 1;
+        List<Row> rows = new ArrayList<>(table.getEntryCount() * DropMethod.values().length * levels);
+
+        for (Map.Entry<Material, List<DropEntry>> e : table.getSources().entrySet()) {
+            Material material = e.getKey();
+            CompiledDropEntry[] compiled = table.getEntries(material);
+
+            for (DropMethod method : DropMethod.values()) {
+                for (int i = 0; i < compiled.length; i++) {
+                    DropEntry entry = compiled[i].source();
+
+                    // The active method's tables already exist
+                    FortuneTable fortuneTable = method == table.getDropMethod()
+                            ? compiled[i].fortuneTable()
+                            : FortuneTable.build(method, entry.chance(), compiled[i].rarity(),
+                            Math.min(maxFortune, table.getFortuneTableCap()));
+
+                    for (int level = 0; level < levels; level++) {
+                        rows.add(new Row(material, entry.oraxenItemId(), entry.chance(),
+                                entry.minAmount(), entry.maxAmount(), method, level,
+                                fortuneTable.rolls(level), fortuneTable.chancePerRoll(level),
+                                DropAnalytics.hitChance(fortuneTable, entry.minAmount(), entry.maxAmount(), level),
+                                DropAnalytics.mean(fortuneTable, entry.minAmount(), entry.maxAmount(), level),
+                                DropAnalytics.variance(fortuneTable, entry.minAmount(), entry.maxAmount(), level)));
+                    }
+                }
+            }
+        }
+
+        return new DropReport(table, maxFortune, Collections.unmodifiableList(rows), System.nanoTime() - start);
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Gets the rows of one block type, drop method and Fortune level
+     */
+    public List<Row> getRows(Material material, DropMethod method, int fortune) {
+        List<Row> result = new ArrayList<>();
+        for (Row row : rows) {
+            if (row.material() == material && row.method() == method && row.fortune() == fortune) {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the table the report was built from
+     */
+    public CompiledDropTable getTable() {
+        return table;
+    }
+
+    public int getMaxFortune() {
+        return maxFortune;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getBuildNanos() {
+        return buildNanos;
+    }
+
+    // ==================== EXPORT ====================
+
+    public void writeCsv(Writer out) throws IOException {
+        out.write("block,item,base_chance,min_amount,max_amount,method,fortune,rolls,chance_per_roll," +
+                "hit_chance,mean,variance,std_dev\n");
+
+        for (Row row : rows) {
+            out.write(String.format(Locale.ROOT, "%s,%s,%s,%d,%d,%s,%d,%d,%.6f,%.6f,%.8f,%.8f,%.8f\n",
+                    row.material(), csv(row.itemId()), row.baseChance(), row.minAmount(), row.maxAmount(),
+                    row.method(), row.fortune(), row.rolls(), row.chancePerRoll(),
+                    row.hitChance(), row.mean(), row.variance(), row.standardDeviation()));
+        }
+    }
+
+    public void writeJson(Writer out) throws IOException {
+        out.write(String.format(Locale.ROOT, "{\"activeMethod\":\"%s\",\"maxFortune\":%d,\"createdAt\":%d,\"rows\":[",
+                table.getDropMethod(), maxFortune, createdAt));
+
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            if (i > 0) out.write(',');
+            out.write(String.format(Locale.ROOT,
+                    "\n{\"block\":\"%s\",\"item\":\"%s\",\"baseChance\":%s,\"minAmount\":%d,\"maxAmount\":%d," +
+                            "\"method\":\"%s\",\"fortune\":%d,\"rolls\":%d,\"chancePerRoll\":%.6f," +
+                            "\"hitChance\":%.6f,\"mean\":%.8f,\"variance\":%.8f}",
+                    row.material(), json(row.itemId()), row.baseChance(), row.minAmount(), row.maxAmount(),
+                    row.method(), row.fortune(), row.rolls(), row.chancePerRoll(),
+                    row.hitChance(), row.mean(), row.variance()));
+        }
+
+        out.write("\n]}\n");
+    }
+
+    private static String csv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0) return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String json(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,13 @@
+package de.tecca.oraxenoredrops.model;
+
+/**
+ * Receives rolled drops as primitive (item index, amount) pairs
+ *
+ * Item indices refer to {@link CompiledDropTable#getItemId(int)} of the
+ * table that produced them.
+ */
+@FunctionalInterface
+public interface DropSink {
+
+    void accept(int itemIndex, int amount);
+}
@@ -0,0 +1,9 @@
+package de.tecca.oraxenoredrops.model;
+
+/**
+ * Resolved enchantment levels of a tool (vanilla and AdvancedEnchantments combined)
+ */
+public record EnchantProfile(boolean silkTouch, int fortune, int looting, int efficiency, int veinminer) {
+
+    public static final EnchantProfile NONE = new EnchantProfile(false, 0, 0, 0, 0);
+}
@@ -0,0 +1,121 @@
+package de.tecca.oraxenoredrops.model;
+
+import de.tecca.oraxenoredrops.enums.DropMethod;
+import de.tecca.oraxenoredrops.util.DropMechanics;
+import de.tecca.oraxenoredrops.util.DropMechanics.DropRarity;
+
+/**
+ * Precomputed roll parameters of one drop entry for Fortune 0..maxLevel
+ *
+ * Built at load time, so rolling a drop is a couple of array reads
+ * instead of DropRarity/log/sqrt/pow calls and result allocations.
+ * Levels above {@link #maxLevel()} are calculated on demand.
+ */
+public final class FortuneTable {
+
+    private final DropMethod dropMethod;
+    private final double baseChance;
+    private final DropRarity rarity;
+
+    // Indexed by Fortune level
+    private final double[] chancePerRoll;   // in %
+    private final int[] rolls;
+    private final double[] totalChance;     // in %, chance of at least one successful roll (uncapped)
+
+    private FortuneTable(DropMethod dropMethod, double baseChance, DropRarity rarity, int maxLevel) {
+        this.dropMethod = dropMethod;
+        this.baseChance = baseChance;
+        this.rarity = rarity;
+        this.chancePerRoll = new double[maxLevel + 1];
+        this.rolls = new int[maxLevel + 1];
+        this.totalChance = new double[maxLevel + 1];
+    }
+
+    /**
+     * Builds the table for one entry
+     *
+     * @param dropMethod Drop method the values are calculated with
+     * @param baseChance Base chance in %
+     * @param rarity Rarity of the base chance
+     * @param maxLevel Highest precomputed Fortune level
+     * @return New table
+     */
+    public static FortuneTable build(DropMethod dropMethod, double baseChance, DropRarity rarity, int maxLevel) {
+        FortuneTable table = new FortuneTable(dropMethod, baseChance, rarity, Math.max(0, maxLevel));
+
+        for (int level = 0; level < table.rolls.length; level++) {
+            double chance = computeChancePerRoll(dropMethod, baseChance, rarity, level);
+            int rollCount = computeRolls(dropMethod, baseChance, rarity, level);
+
+            table.chancePerRoll[level] = chance;
+            table.rolls[level] = rollCount;
+            table.totalChance[level] = cumulativeChance(chance, rollCount);
+        }
+
+        return table;
+    }
+
+    /**
+     * Chance per roll in %
+     */
+    public double chancePerRoll(int level) {
+        if (level < 0) level = 0;
+        return level < chancePerRoll.length
+                ? chancePerRoll[level]
+                : computeChancePerRoll(dropMethod, baseChance, rarity, level);
+    }
+
+    /**
+     * Number of rolls
+     */
+    public int rolls(int level) {
+        if (level < 0) level = 0;
+        return level < rolls.length
+                ? rolls[level]
+                : computeRolls(dropMethod, baseChance, rarity, level);
+    }
+
+    /**
+     * Chance in % that at least one roll succeeds
+     */
+    public double totalChance(int level) {
+        if (level < 0) level = 0;
+        return level < totalChance.length
+                ? totalChance[level]
+                : cumulativeChance(chancePerRoll(level), rolls(level));
+    }
+
+    /**
+     * Highest precomputed Fortune level
+     */
+    public int maxLevel() {
+        return rolls.length - 1;
+    }
+
+    public DropMethod dropMethod() {
+        return dropMethod;
+    }
+
+    // ==================== FALLBACK ====================
+
+    private static double computeChancePerRoll(DropMethod method, double baseChance, DropRarity rarity, int level) {
+        return switch (method) {
+            case DIMINISHING -> DropMechanics.calculateDropChance(baseChance, level, rarity);
+            case BONUS_ROLLS -> DropMechanics.calculateBonusRolls(baseChance, level, rarity).chancePerRoll;
+            case HYBRID -> DropMechanics.calculateHybridDrop(baseChance, level, rarity).chancePerRoll;
+        };
+    }
+
+    private static int computeRolls(DropMethod method, double baseChance, DropRarity rarity, int level) {
+        return switch (method) {
+            case DIMINISHING -> 1;
+            case BONUS_ROLLS -> DropMechanics.calculateBonusRolls(baseChance, level, rarity).rolls;
+            case HYBRID -> DropMechanics.calculateHybridDrop(baseChance, level, rarity).rolls;
+        };
+    }
+
+    private static double cumulativeChance(double chancePerRoll, int rolls) {
+        // 1 - (1 - p)^n, without the 95% display cap of the result classes
+        return 100.0 * (1.0 - Math.pow(1.0 - Math.min(100.0, chancePerRoll) / 100.0, rolls));
+    }
+}
@@ -1,15 +1,65 @@
 package de.tecca.oraxenoredrops.util;
 
-import net.advancedplugins.ae.api.AEAPI;
+import org.bukkit.block.Block;
 import org.bukkit.inventory.ItemStack;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Utility class for AdvancedEnchantments API integration
  * Provides safe access to custom enchantments with fallback handling
+ *
+ * All AEAPI entry points are resolved once into MethodHandles. Methods
+ * missing in the installed AE version are absent capabilities and their
+ * wrappers return the fallback value without any lookup.
  */
 public class AEAPIUtil {
 
+    private static final String AEAPI_CLASS = "net.advancedplugins.ae.api.AEAPI";
+
     private static boolean available = false;
+    private static Set<Capability> capabilities = Collections.emptySet();
+
+    /**
+     * AEAPI entry points used by this plugin
+     */
+    public enum Capability {
+        ENCHANT_LEVEL,
+        APPLY_ENCHANT,
+        REMOVE_ENCHANT,
+        IGNORE_BLOCK_EVENT,
+        SET_IGNORE_BLOCK_EVENT
+    }
+
+    /**
+     * Resolved on first access (from {@link #initialize()}), null = method not present
+     */
+    private static final class Handles {
+        static final MethodHandle GET_ENCHANT_LEVEL =
+                find("getEnchantLevel", MethodType.methodType(int.class, String.class, ItemStack.class));
+        static final MethodHandle APPLY_ENCHANT =
+                find("applyEnchant", MethodType.methodType(ItemStack.class, String.class, int.class, ItemStack.class));
+        static final MethodHandle REMOVE_ENCHANTMENT =
+                find("removeEnchantment", MethodType.methodType(ItemStack.class, ItemStack.class, String.class));
+        static final MethodHandle IGNORE_BLOCK_EVENT =
+                find("ignoreBlockEvent", MethodType.methodType(boolean.class, Block.class));
+        static final MethodHandle SET_IGNORE_BLOCK_EVENT =
+                find("setIgnoreBlockEvent", MethodType.methodType(void.class, Block.class));
+
+        private static MethodHandle find(String name, MethodType type) {
+            try {
+                Class<?> api = Class.forName(AEAPI_CLASS);
+                return MethodHandles.publicLookup().findStatic(api, name, type);
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return null;
+            }
+        }
+    }
 
     /**
      * Initializes the AEAPI (called on plugin startup)
@@ -17,13 +67,23 @@ public class AEAPIUtil {
     public static boolean initialize() {
         try {
             // Check if AEAPI class exists
-            Class.forName("net.advancedplugins.ae.api.AEAPI");
-            available = true;
-            return true;
+            Class.forName(AEAPI_CLASS);
         } catch (ClassNotFoundException | NoClassDefFoundError e) {
             available = false;
+            capabilities = Collections.emptySet();
             return false;
         }
+
+        Set<Capability> resolved = EnumSet.noneOf(Capability.class);
+        if (Handles.GET_ENCHANT_LEVEL != null) resolved.add(Capability.ENCHANT_LEVEL);
+        if (Handles.APPLY_ENCHANT != null) resolved.add(Capability.APPLY_ENCHANT);
+        if (Handles.REMOVE_ENCHANTMENT != null) resolved.add(Capability.REMOVE_ENCHANT);
+        if (Handles.IGNORE_BLOCK_EVENT != null) resolved.add(Capability.IGNORE_BLOCK_EVENT);
+        if (Handles.SET_IGNORE_BLOCK_EVENT != null) resolved.add(Capability.SET_IGNORE_BLOCK_EVENT);
+
+        capabilities = Collections.unmodifiableSet(resolved);
+        available = true;
+        return true;
     }
 
     /**
@@ -33,6 +93,20 @@ public class AEAPIUtil {
         return available;
     }
 
+    /**
+     * Checks if the installed AE version provides an entry point
+     */
+    public static boolean hasCapability(Capability capability) {
+        return capabilities.contains(capability);
+    }
+
+    /**
+     * Gets all entry points resolved on startup
+     */
+    public static Set<Capability> getCapabilities() {
+        return capabilities;
+    }
+
     /**
      * Checks if an item has a specific custom enchantment
      *
@@ -52,14 +126,14 @@ public class AEAPIUtil {
      * @return Level of the enchantment, 0 if not present
      */
     public static int getEnchantmentLevel(ItemStack item, String enchantName) {
-        if (!isAvailable() || item == null || enchantName == null) {
+        if (!hasCapability(Capability.ENCHANT_LEVEL) || item == null || enchantName == null) {
             return 0;
         }
 
         try {
-            // getEnchantmentLevel returns 0 if enchant is not present
-            return AEAPI.getEnchantLevel(enchantName, item);
-        } catch (Exception e) {
+            // getEnchantLevel returns 0 if enchant is not present
+            return (int) Handles.GET_ENCHANT_LEVEL.invokeExact(enchantName, item);
+        } catch (Throwable e) {
             return 0;
         }
     }
@@ -95,13 +169,13 @@ public class AEAPIUtil {
      * @return The modified item
      */
     public static ItemStack applyEnchantment(ItemStack item, String enchantName, int level) {
-        if (!isAvailable() || item == null || enchantName == null) {
+        if (!hasCapability(Capability.APPLY_ENCHANT) || item == null || enchantName == null) {
             return item;
         }
 
         try {
-            return AEAPI.applyEnchant(enchantName, level, item);
-        } catch (Exception e) {
+            return (ItemStack) Handles.APPLY_ENCHANT.invokeExact(enchantName, level, item);
+        } catch (Throwable e) {
             return item;
         }
     }
@@ -114,13 +188,13 @@ public class AEAPIUtil {
      * @return The modified item
      */
     public static ItemStack removeEnchantment(ItemStack item, String enchantName) {
-        if (!isAvailable() || item == null || enchantName == null) {
+        if (!hasCapability(Capability.REMOVE_ENCHANT) || item == null || enchantName == null) {
             return item;
         }
 
         try {
-            return AEAPI.removeEnchantment(item, enchantName);
-        } catch (Exception e) {
+            return (ItemStack) Handles.REMOVE_ENCHANTMENT.invokeExact(item, enchantName);
+        } catch (Throwable e) {
             return item;
         }
     }
@@ -164,21 +238,15 @@ public class AEAPIUtil {
      * @param block The block to check
      * @return true if block should be ignored
      */
-    public static boolean shouldIgnoreBlock(org.bukkit.block.Block block) {
-        if (!isAvailable() || block == null) {
+    public static boolean shouldIgnoreBlock(Block block) {
+        // Absent in older AE versions
+        if (!hasCapability(Capability.IGNORE_BLOCK_EVENT) || block == null) {
             return false;
         }
 
         try {
-            // Use reflection if AEAPI.ignoreBlockEvent() exists
-            Class<?> aeapiClass = Class.forName("net.advancedplugins.ae.api.AEAPI");
-            java.lang.reflect.Method method = aeapiClass.getMethod("ignoreBlockEvent", org.bukkit.block.Block.class);
-            return (boolean) method.invoke(null, block);
-        } catch (NoSuchMethodException e) {
-            // Method doesn't exist - old AE version
-            return false;
-        } catch (Exception e) {
-            // Other error
+            return (boolean) Handles.IGNORE_BLOCK_EVENT.invokeExact(block);
+        } catch (Throwable e) {
             return false;
         }
     }
@@ -189,17 +257,15 @@ public class AEAPIUtil {
      *
      * @param block The block to mark
      */
-    public static void setIgnoreBlockEvent(org.bukkit.block.Block block) {
-        if (!isAvailable() || block == null) {
+    public static void setIgnoreBlockEvent(Block block) {
+        // Absent in older AE versions
+        if (!hasCapability(Capability.SET_IGNORE_BLOCK_EVENT) || block == null) {
             return;
         }
 
         try {
-            // Use reflection if AEAPI.setIgnoreBlockEvent() exists
-            Class<?> aeapiClass = Class.forName("net.advancedplugins.ae.api.AEAPI");
-            java.lang.reflect.Method method = aeapiClass.getMethod("setIgnoreBlockEvent", org.bukkit.block.Block.class);
-            method.invoke(null, block);
-        } catch (Exception e) {
+            Handles.SET_IGNORE_BLOCK_EVENT.invokeExact(block);
+        } catch (Throwable e) {
             // Ignore
         }
     }
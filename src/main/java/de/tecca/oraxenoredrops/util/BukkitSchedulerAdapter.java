@@ -0,0 +1,69 @@
+package de.tecca.oraxenoredrops.util;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Paper/Spigot: everything that is not async runs on the main thread
+ */
+final class BukkitSchedulerAdapter implements SchedulerAdapter {
+
+    private final Plugin plugin;
+
+    BukkitSchedulerAdapter(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean isRegionized() {
+        return false;
+    }
+
+    @Override
+    public void runGlobal(Runnable task) {
+        runSync(task);
+    }
+
+    @Override
+    public void runAt(Location location, Runnable task) {
+        runSync(task);
+    }
+
+    @Override
+    public void runFor(Entity entity, Runnable task) {
+        runSync(task);
+    }
+
+    @Override
+    public void runAsync(Runnable task) {
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, task);
+    }
+
+    @Override
+    public Task runAsyncTimer(Runnable task, long delayTicks, long periodTicks) {
+        BukkitTask bukkitTask = Bukkit.getScheduler()
+                .runTaskTimerAsynchronously(plugin, task, delayTicks, periodTicks);
+        return bukkitTask::cancel;
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(Location location) {
+        return Bukkit.isPrimaryThread();
+    }
+
+    @Override
+    public void cancelTasks() {
+        Bukkit.getScheduler().cancelTasks(plugin);
+    }
+
+    private void runSync(Runnable task) {
+        if (Bukkit.isPrimaryThread()) {
+            task.run();
+        } else {
+            Bukkit.getScheduler().runTask(plugin, task);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package de.tecca.oraxenoredrops.util;
+
+import de.tecca.oraxenoredrops.enums.DropMethod;
+import de.tecca.oraxenoredrops.model.FortuneTable;
+
+/**
+ * Exact moments of the amount one break drops of an entry
+ *
+ * Closed forms of the distributions the compiled entries sample from, so
+ * no simulation is needed:
+ * - BONUS_ROLLS / HYBRID: sum of S uniform amounts, S ~ Binomial(rolls, p)
+ * - DIMINISHING: with chance q one uniform amount plus the Fortune bonus
+ *   items (independent rolls with chance 1/1, 1/2, ... 1/level)
+ */
+public final class DropAnalytics {
+
+    private DropAnalytics() {
+    }
+
+    /**
+     * Chance in % that a break drops at least one item of the entry
+     *
+     * With min-amount 0 a successful roll can drop nothing, so this is
+     * lower than the chance of a successful roll.
+     */
+    public static double hitChance(FortuneTable table, int minAmount, int maxAmount, int level) {
+        if (minAmount > 0) {
+            return rollChance(table, level);
+        }
+        double zero = 1.0 / (maxAmount - minAmount + 1); // P(amount = 0) of one roll
+
+        if (table.dropMethod() == DropMethod.DIMINISHING) {
+            // The Fortune bonus always adds the 1/1 item from level 1 on
+            double empty = level > 0 ? 0 : zero;
+            return rollChance(table, level) * (1 - empty);
+        }
+
+        // Nothing dropped: every roll misses or draws 0
+        double p = chancePerRoll(table, level);
+        return 100.0 * (1 - Math.pow(1 - p * (1 - zero), table.rolls(level)));
+    }
+
+    /**
+     * Expected amount per break, including misses
+     */
+    public static double mean(FortuneTable table, int minAmount, int maxAmount, int level) {
+        double meanAmount = (minAmount + maxAmount) / 2.0;
+
+        if (table.dropMethod() == DropMethod.DIMINISHING) {
+            return rollChance(table, level) / 100.0 * (meanAmount + bonusMean(level));
+        }
+
+        return table.rolls(level) * chancePerRoll(table, level) * meanAmount;
+    }
+
+    /**
+     * Variance of the amount per break, including misses
+     */
+    public static double variance(FortuneTable table, int minAmount, int maxAmount, int level) {
+        double meanAmount = (minAmount + maxAmount) / 2.0;
+        int span = maxAmount - minAmount + 1;
+        double amountVariance = (span * (double) span - 1) / 12.0;
+
+        if (table.dropMethod() == DropMethod.DIMINISHING) {
+            // X = I * (A + B): Var = q Var(A + B) + q (1 - q) E[A + B]^2
+            double q = rollChance(table, level) / 100.0;
+            double dropMean = meanAmount + bonusMean(level);
+            double dropVariance = amountVariance + bonusVariance(level);
+            return q * dropVariance + q * (1 - q) * dropMean * dropMean;
+        }
+
+        // Compound binomial: Var = E[S] Var(A) + Var(S) E[A]^2
+        int rolls = table.rolls(level);
+        double p = chancePerRoll(table, level);
+        return rolls * p * amountVariance + rolls * p * (1 - p) * meanAmount * meanAmount;
+    }
+
+    /**
+     * Chance in % of at least one successful roll
+     */
+    private static double rollChance(FortuneTable table, int level) {
+        return Math.min(100.0, table.totalChance(level));
+    }
+
+    private static double chancePerRoll(FortuneTable table, int level) {
+        return Math.min(100.0, table.chancePerRoll(level)) / 100.0;
+    }
+
+    private static double bonusMean(int level) {
+        double mean = 0;
+        for (int i = 1; i <= level; i++) {
+            mean += 1.0 / i;
+        }
+        return mean;
+    }
+
+    private static double bonusVariance(int level) {
+        double variance = 0;
+        for (int i = 1; i <= level; i++) {
+            double chance = 1.0 / i;
+            variance += chance * (1 - chance);
+        }
+        return variance;
+    }
+}
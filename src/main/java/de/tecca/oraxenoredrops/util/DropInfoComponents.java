@@ -0,0 +1,46 @@
+package de.tecca.oraxenoredrops.util;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+
+/**
+ * Adventure version of {@link DropMechanics#getDropInfo}
+ */
+final class DropInfoComponents {
+
+    private DropInfoComponents() {
+    }
+
+    static Component build(double baseChance, int enchantLevel) {
+        DropMechanics.DropRarity rarity = DropMechanics.DropRarity.fromChance(baseChance);
+
+        // Method 1: Diminishing Returns
+        double method1 = DropMechanics.calculateDropChance(baseChance, enchantLevel);
+
+        // Method 2: Bonus Rolls
+        DropMechanics.BonusRollResult method2 = DropMechanics.calculateBonusRolls(baseChance, enchantLevel);
+
+        // Method 3: Hybrid
+        DropMechanics.HybridDropResult method3 = DropMechanics.calculateHybridDrop(baseChance, enchantLevel);
+
+        return Component.text()
+                .append(Component.text("Base: ", NamedTextColor.GRAY))
+                .append(Component.text(String.format("%.2f%%", baseChance), NamedTextColor.WHITE))
+                .append(Component.text(" (" + rarity + ")", NamedTextColor.DARK_GRAY))
+                .appendNewline()
+
+                .append(Component.text("Method 1 (Diminishing): ", NamedTextColor.YELLOW))
+                .append(Component.text(String.format("%.2f%%", method1), NamedTextColor.GREEN))
+                .append(Component.text(" (+" + String.format("%.2f%%", method1 - baseChance) + ")", NamedTextColor.DARK_GRAY))
+                .appendNewline()
+
+                .append(Component.text("Method 2 (Bonus Rolls): ", NamedTextColor.YELLOW))
+                .append(Component.text(method2.toString(), NamedTextColor.GREEN))
+                .appendNewline()
+
+                .append(Component.text("Method 3 (Hybrid): ", NamedTextColor.YELLOW))
+                .append(Component.text(method3.toString(), NamedTextColor.GREEN))
+
+                .build();
+    }
+}
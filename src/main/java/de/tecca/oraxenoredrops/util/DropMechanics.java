@@ -1,7 +1,8 @@
 package de.tecca.oraxenoredrops.util;
 
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.NamedTextColor;
+
+import java.util.random.RandomGenerator;
 
 /**
  * Advanced drop mechanics system for balanced Fortune/Looting scaling
@@ -13,6 +14,22 @@ import net.kyori.adventure.text.format.NamedTextColor;
  */
 public class DropMechanics {
 
+    // ==================== RANDOM ====================
+
+    // Used by the helpers without an explicit random source, set on (re)load
+    private static volatile DropRandom random = DropRandom.createDefault();
+
+    /**
+     * Sets the random source of the helpers without an explicit generator
+     */
+    public static void setRandom(DropRandom random) {
+        DropMechanics.random = random;
+    }
+
+    public static DropRandom getRandom() {
+        return random;
+    }
+
     // ==================== DROP TIERS ====================
 
     /**
@@ -58,12 +75,17 @@ public class DropMechanics {
      * @return Final chance in %
      */
     public static double calculateDropChance(double baseChance, int enchantLevel) {
+        return calculateDropChance(baseChance, enchantLevel, DropRarity.fromChance(baseChance));
+    }
+
+    /**
+     * Same as {@link #calculateDropChance(double, int)} with an already known rarity
+     */
+    public static double calculateDropChance(double baseChance, int enchantLevel, DropRarity rarity) {
         if (enchantLevel <= 0) {
             return baseChance;
         }
 
-        DropRarity rarity = DropRarity.fromChance(baseChance);
-
         // Calculate bonus based on rarity
         double bonus = calculateBonus(baseChance, enchantLevel, rarity);
 
@@ -125,12 +147,17 @@ public class DropMechanics {
      * @return BonusRollResult with number of rolls and chance
      */
     public static BonusRollResult calculateBonusRolls(double baseChance, int enchantLevel) {
+        return calculateBonusRolls(baseChance, enchantLevel, DropRarity.fromChance(baseChance));
+    }
+
+    /**
+     * Same as {@link #calculateBonusRolls(double, int)} with an already known rarity
+     */
+    public static BonusRollResult calculateBonusRolls(double baseChance, int enchantLevel, DropRarity rarity) {
         if (enchantLevel <= 0) {
             return new BonusRollResult(1, baseChance);
         }
 
-        DropRarity rarity = DropRarity.fromChance(baseChance);
-
         int bonusRolls = calculateBonusRollCount(enchantLevel, rarity);
         int totalRolls = 1 + bonusRolls;
 
@@ -179,12 +206,17 @@ public class DropMechanics {
      * Best balance between both systems
      */
     public static HybridDropResult calculateHybridDrop(double baseChance, int enchantLevel) {
+        return calculateHybridDrop(baseChance, enchantLevel, DropRarity.fromChance(baseChance));
+    }
+
+    /**
+     * Same as {@link #calculateHybridDrop(double, int)} with an already known rarity
+     */
+    public static HybridDropResult calculateHybridDrop(double baseChance, int enchantLevel, DropRarity rarity) {
         if (enchantLevel <= 0) {
             return new HybridDropResult(baseChance, 1);
         }
 
-        DropRarity rarity = DropRarity.fromChance(baseChance);
-
         double boostedChance;
         int totalRolls;
 
@@ -238,8 +270,16 @@ public class DropMechanics {
      * @return Final amount
      */
     public static int calculateDropAmount(int minAmount, int maxAmount, int enchantLevel) {
+        return calculateDropAmount(minAmount, maxAmount, enchantLevel, random.get());
+    }
+
+    /**
+     * Same as {@link #calculateDropAmount(int, int, int)} with the given random source
+     */
+    public static int calculateDropAmount(int minAmount, int maxAmount, int enchantLevel,
+                                          RandomGenerator random) {
         // Base amount
-        int baseAmount = minAmount + (int) (Math.random() * (maxAmount - minAmount + 1));
+        int baseAmount = minAmount + (int) (random.nextDouble() * (maxAmount - minAmount + 1));
 
         if (enchantLevel <= 0) {
             return baseAmount;
@@ -253,7 +293,7 @@ public class DropMechanics {
             // Level 1: 100%, Level 2: 66%, Level 3: 50%, etc.
             double chance = 1.0 / (i + 1);
 
-            if (Math.random() < chance) {
+            if (random.nextDouble() < chance) {
                 bonusItems++;
             }
         }
@@ -261,6 +301,158 @@ public class DropMechanics {
         return baseAmount + bonusItems;
     }
 
+    // ==================== SAMPLING ====================
+
+    /**
+     * Draws the number of successes of n independent rolls with chance p
+     *
+     * Statistically identical to rolling n times, but the cost does not
+     * grow with n:
+     * - n*p < 30: exact inversion (one draw in almost all cases)
+     * - otherwise: BTPE (Kachitvichyanukul and Schmeiser, 1988)
+     *
+     * @param n Number of rolls
+     * @param p Chance per roll (0-1)
+     * @param random Random source
+     * @return Number of successful rolls (0-n)
+     */
+    public static int sampleBinomial(int n, double p, RandomGenerator random) {
+        if (n <= 0 || p <= 0.0) {
+            return 0;
+        }
+        if (p >= 1.0) {
+            return n;
+        }
+
+        // Both algorithms work on p <= 0.5, mirror the result otherwise
+        double r = Math.min(p, 1.0 - p);
+        int successes = n * r < 30.0
+                ? binomialInversion(n, r, random)
+                : binomialBtpe(n, r, random);
+
+        return p > 0.5 ? n - successes : successes;
+    }
+
+    /**
+     * Inversion by sequential search from 0, expected n*p + 1 steps
+     */
+    private static int binomialInversion(int n, double p, RandomGenerator random) {
+        double q = 1.0 - p;
+        double qn = Math.exp(n * Math.log(q));
+        double np = n * p;
+        int bound = (int) Math.min(n, np + 10.0 * Math.sqrt(np * q + 1));
+
+        int x = 0;
+        double px = qn;
+        double u = random.nextDouble();
+
+        while (u > px) {
+            x++;
+            if (x > bound) {
+                // Numerical tail - restart
+                x = 0;
+                px = qn;
+                u = random.nextDouble();
+            } else {
+                u -= px;
+                px = ((n - x + 1) * p * px) / (x * q);
+            }
+        }
+
+        return x;
+    }
+
+    /**
+     * BTPE: triangle/parallelogram/exponential acceptance-rejection
+     *
+     * Needs n*p >= 30 and p <= 0.5, about 2-3 draws per sample regardless of n
+     */
+    private static int binomialBtpe(int n, double p, RandomGenerator random) {
+        double q = 1.0 - p;
+        double npq = n * p * q;
+        double fm = n * p + p;
+        int m = (int) Math.floor(fm);
+
+        double p1 = Math.floor(2.195 * Math.sqrt(npq) - 4.6 * q) + 0.5;
+        double xm = m + 0.5;
+        double xl = xm - p1;
+        double xr = xm + p1;
+        double c = 0.134 + 20.5 / (15.3 + m);
+        double a = (fm - xl) / (fm - xl * p);
+        double lambdaL = a * (1.0 + a / 2.0);
+        a = (xr - fm) / (xr * q);
+        double lambdaR = a * (1.0 + a / 2.0);
+        double p2 = p1 * (1.0 + 2.0 * c);
+        double p3 = p2 + c / lambdaL;
+        double p4 = p3 + c / lambdaR;
+
+        while (true) {
+            double u = random.nextDouble() * p4;
+            double v = random.nextDouble();
+            int y;
+
+            if (u <= p1) {
+                // Triangle - accepted without further checks
+                return (int) Math.floor(xm - p1 * v + u);
+            } else if (u <= p2) {
+                // Parallelogram
+                double x = xl + (u - p1) / c;
+                v = v * c + 1.0 - Math.abs(m - x + 0.5) / p1;
+                if (v > 1.0) continue;
+                y = (int) Math.floor(x);
+            } else if (u <= p3) {
+                // Left exponential tail
+                y = (int) Math.floor(xl + Math.log(v) / lambdaL);
+                if (y < 0) continue;
+                v = v * (u - p2) * lambdaL;
+            } else {
+                // Right exponential tail
+                y = (int) Math.floor(xr - Math.log(v) / lambdaR);
+                if (y > n) continue;
+                v = v * (u - p3) * lambdaR;
+            }
+
+            int k = Math.abs(y - m);
+            if (k <= 20 || k >= npq / 2.0 - 1) {
+                // Explicit evaluation of f(y) / f(m)
+                double s = p / q;
+                double as = s * (n + 1);
+                double f = 1.0;
+                if (m < y) {
+                    for (int i = m + 1; i <= y; i++) f *= (as / i - s);
+                } else if (m > y) {
+                    for (int i = y + 1; i <= m; i++) f /= (as / i - s);
+                }
+                if (v <= f) return y;
+                continue;
+            }
+
+            // Squeeze with bounds on log(f(y) / f(m))
+            double rho = (k / npq) * ((k * (k / 3.0 + 0.625) + 0.1666666666666) / npq + 0.5);
+            double t = -((double) k * k) / (2.0 * npq);
+            double logV = Math.log(v);
+            if (logV < t - rho) return y;
+            if (logV > t + rho) continue;
+
+            // Final acceptance test with Stirling's approximation
+            double x1 = y + 1;
+            double f1 = m + 1;
+            double z = n + 1 - m;
+            double w = n - y + 1;
+            double bound = xm * Math.log(f1 / x1)
+                    + (n - m + 0.5) * Math.log(z / w)
+                    + (y - m) * Math.log(w * p / (x1 * q))
+                    + stirlingCorrection(f1) + stirlingCorrection(z)
+                    + stirlingCorrection(x1) + stirlingCorrection(w);
+            if (logV <= bound) return y;
+        }
+    }
+
+    private static double stirlingCorrection(double x) {
+        double x2 = x * x;
+        return (13860. - (462. - (132. - (99. - 140. / x2) / x2) / x2) / x2) / x / 166320.;
+    }
+
     // ==================== HELPER CLASSES ====================
 
     public static class BonusRollResult {
@@ -311,36 +503,8 @@ public class DropMechanics {
      * PAPER: As Adventure Component
      */
     public static Component getDropInfoComponent(double baseChance, int enchantLevel) {
-        DropRarity rarity = DropRarity.fromChance(baseChance);
-
-        // Method 1: Diminishing Returns
-        double method1 = calculateDropChance(baseChance, enchantLevel);
-
-        // Method 2: Bonus Rolls
-        BonusRollResult method2 = calculateBonusRolls(baseChance, enchantLevel);
-
-        // Method 3: Hybrid
-        HybridDropResult method3 = calculateHybridDrop(baseChance, enchantLevel);
-
-        return Component.text()
-                .append(Component.text("Base: ", NamedTextColor.GRAY))
-                .append(Component.text(String.format("%.2f%%", baseChance), NamedTextColor.WHITE))
-                .append(Component.text(" (" + rarity + ")", NamedTextColor.DARK_GRAY))
-                .appendNewline()
-
-                .append(Component.text("Method 1 (Diminishing): ", NamedTextColor.YELLOW))
-                .append(Component.text(String.format("%.2f%%", method1), NamedTextColor.GREEN))
-                .append(Component.text(" (+" + String.format("%.2f%%", method1 - baseChance) + ")", NamedTextColor.DARK_GRAY))
-                .appendNewline()
-
-                .append(Component.text("Method 2 (Bonus Rolls): ", NamedTextColor.YELLOW))
-                .append(Component.text(method2.toString(), NamedTextColor.GREEN))
-                .appendNewline()
-
-                .append(Component.text("Method 3 (Hybrid): ", NamedTextColor.YELLOW))
-                .append(Component.text(method3.toString(), NamedTextColor.GREEN))
-
-                .build();
+        // Built in a separate class, so the simulator can load DropMechanics without Adventure
+        return DropInfoComponents.build(baseChance, enchantLevel);
     }
 
     /**
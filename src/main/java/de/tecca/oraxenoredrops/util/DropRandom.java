@@ -0,0 +1,175 @@
+package de.tecca.oraxenoredrops.util;
+
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Random number source of all drop rolls
+ *
+ * Wraps a java.util.random algorithm (L64X128MixRandom by default) with one
+ * generator per thread, so rolls never contend on a shared seed. With a
+ * fixed seed (globally or per world) every thread gets its own generator
+ * per world, seeded from the world seed and the thread's stream number.
+ * Streams are numbered in the order threads first roll; stream 0 uses the
+ * seed as is. On Paper all breaks roll on the main thread, so replaying the
+ * same breaks gives the same drops. On Folia region threads get distinct
+ * streams (no correlated drops across regions), but which region runs on
+ * which thread is up to the scheduler - only the distribution is fixed.
+ *
+ * Immutable after creation, replaced as a whole on reload.
+ */
+public final class DropRandom {
+
+    public static final String DEFAULT_ALGORITHM = "L64X128MixRandom";
+
+    private final String algorithm;
+    private final RandomGeneratorFactory<RandomGenerator> factory;
+    private final Long seed;
+    private final Map<String, Long> worldSeeds;
+
+    // Unseeded: one generator per thread
+    private final ThreadLocal<RandomGenerator> generators;
+
+    // Seeded: one generator per thread and world
+    private final ThreadLocal<Map<String, RandomGenerator>> seededGenerators;
+
+    // Seeded: stream number of each thread, mixed into its seeds
+    private final AtomicInteger nextStream = new AtomicInteger();
+    private final ThreadLocal<Integer> streams = ThreadLocal.withInitial(nextStream::getAndIncrement);
+
+    private DropRandom(String algorithm, Long seed, Map<String, Long> worldSeeds) {
+        this.algorithm = algorithm;
+        this.factory = RandomGeneratorFactory.of(algorithm);
+        this.seed = seed;
+        this.worldSeeds = Map.copyOf(worldSeeds);
+        this.generators = ThreadLocal.withInitial(seed != null
+                ? () -> factory.create(streamSeed(seed))
+                : factory::create);
+        this.seededGenerators = ThreadLocal.withInitial(HashMap::new);
+    }
+
+    /**
+     * Creates a random source
+     *
+     * @param algorithm Name of a java.util.random algorithm
+     * @param seed Fixed seed of all worlds, null for random seeds
+     * @param worldSeeds Fixed seeds of single worlds, override the global seed
+     * @throws IllegalArgumentException if the algorithm is not available
+     */
+    public static DropRandom create(String algorithm, Long seed, Map<String, Long> worldSeeds) {
+        return new DropRandom(algorithm, seed, worldSeeds);
+    }
+
+    /**
+     * Unseeded source with the default algorithm
+     */
+    public static DropRandom createDefault() {
+        return new DropRandom(DEFAULT_ALGORITHM, null, Map.of());
+    }
+
+    // ==================== GENERATORS ====================
+
+    /**
+     * Gets the generator of the current thread
+     *
+     * Not thread-safe, must not be handed to other threads.
+     */
+    public RandomGenerator get() {
+        return generators.get();
+    }
+
+    /**
+     * Gets the generator of the current thread for rolls in a world
+     *
+     * @param world World of the broken blocks, null for the global generator
+     */
+    public RandomGenerator get(World world) {
+        if (world == null || (seed == null && worldSeeds.isEmpty())) {
+            return generators.get();
+        }
+
+        Long worldSeed = worldSeeds.get(world.getName());
+        if (worldSeed == null) {
+            if (seed == null) {
+                return generators.get();
+            }
+            worldSeed = seed ^ mix(world.getName().hashCode());
+        }
+
+        long initial = streamSeed(worldSeed);
+        return seededGenerators.get().computeIfAbsent(world.getName(), name -> factory.create(initial));
+    }
+
+    /**
+     * Creates a new generator with a fixed seed (simulations, tests)
+     */
+    public RandomGenerator newGenerator(long seed) {
+        return factory.create(seed);
+    }
+
+    /**
+     * Creates independent generators for parallel workers
+     *
+     * Splittable algorithms (LXM, SplittableRandom) are split, jumpable ones
+     * jumped, others are seeded from a root generator. Starts from the
+     * configured seed if there is one, so parallel runs are reproducible.
+     *
+     * @param count Number of generators
+     */
+    public List<RandomGenerator> split(int count) {
+        RandomGenerator root = seed != null ? factory.create(seed) : factory.create();
+        List<RandomGenerator> result = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            if (root instanceof RandomGenerator.SplittableGenerator splittable) {
+                result.add(splittable.split());
+            } else if (root instanceof RandomGenerator.JumpableGenerator jumpable) {
+                result.add(jumpable.copyAndJump());
+            } else {
+                result.add(factory.create(root.nextLong()));
+            }
+        }
+        return result;
+    }
+
+    // ==================== INFO ====================
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public boolean isSeeded() {
+        return seed != null || !worldSeeds.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        if (!isSeeded()) return algorithm;
+        return algorithm + " (seed " + (seed != null ? seed : "-") +
+                (worldSeeds.isEmpty() ? "" : ", " + worldSeeds.size() + " world seed(s)") + ")";
+    }
+
+    /**
+     * Seed of the current thread's stream, the seed itself for stream 0
+     */
+    private long streamSeed(long seed) {
+        int stream = streams.get();
+        return stream == 0 ? seed : seed ^ mix(stream);
+    }
+
+    /**
+     * SplitMix64 finalizer, spreads world name hashes over all 64 bits
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
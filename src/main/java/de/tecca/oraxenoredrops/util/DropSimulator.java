@@ -0,0 +1,174 @@
+package de.tecca.oraxenoredrops.util;
+
+import de.tecca.oraxenoredrops.enums.DropMethod;
+import de.tecca.oraxenoredrops.model.CompiledDropEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.random.RandomGenerator;
+
+/**
+ * Monte Carlo simulation of the drop rolls of one block type
+ *
+ * Rolls the compiled entries exactly like a break does, split over one
+ * worker per generator (one fork-join task each, on the common pool or a
+ * pool of the caller's size), and
+ * compares the empirical rates with the analytic values of the entries.
+ * Needs no server - used by /ood simulate and the headless
+ * {@link de.tecca.oraxenoredrops.SimulatorMain}.
+ */
+public final class DropSimulator {
+
+    // Amounts per hit above this share the last histogram bucket
+    public static final int HISTOGRAM_SIZE = 16;
+
+    private DropSimulator() {
+    }
+
+    /**
+     * Simulated and analytic values of one drop entry
+     *
+     * @param itemId Oraxen item ID
+     * @param baseChance Configured chance in %
+     * @param hits Breaks that dropped the entry
+     * @param items Total amount dropped
+     * @param sumSquares Sum of the squared amount per break (for the standard error)
+     * @param histogram Hits by amount, index = amount (last bucket = amount or more)
+     * @param expectedHitChance Analytic chance in % of a break dropping the entry
+     * @param expectedAmount Analytic mean amount per break
+     */
+    public record EntryResult(String itemId, double baseChance, long hits, long items, double sumSquares,
+                              long[] histogram, double expectedHitChance, double expectedAmount) {
+
+        public double hitChance(long breaks) {
+            return breaks == 0 ? 0 : 100.0 * hits / breaks;
+        }
+
+        public double amountPerBreak(long breaks) {
+            return breaks == 0 ? 0 : (double) items / breaks;
+        }
+
+        /**
+         * Deviation of the simulated mean from the analytic one in standard errors
+         */
+        public double zScore(long breaks) {
+            if (breaks < 2) return 0;
+            double mean = amountPerBreak(breaks);
+            double variance = Math.max(0, sumSquares / breaks - mean * mean);
+            double error = Math.sqrt(variance / breaks);
+            return error == 0 ? 0 : (mean - expectedAmount) / error;
+        }
+    }
+
+    /**
+     * Result of one simulation run
+     */
+    public record Result(DropMethod method, int fortune, long breaks, int workers, long nanos,
+                         List<EntryResult> entries) {
+
+        public double breaksPerSecond() {
+            return nanos == 0 ? 0 : breaks * 1e9 / nanos;
+        }
+    }
+
+    /**
+     * Simulates a number of breaks
+     *
+     * @param entries Compiled entries of the block type
+     * @param fortuneLevel Fortune/Looting level
+     * @param breaks Number of simulated breaks
+     * @param generators One independent generator per worker, see {@link DropRandom#split(int)}
+     * @return Result with one EntryResult per entry, in entry order
+     */
+    public static Result run(CompiledDropEntry[] entries, int fortuneLevel, long breaks,
+                             List<RandomGenerator> generators) {
+        return run(entries, fortuneLevel, breaks, generators, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Simulates a number of breaks on the given pool
+     *
+     * @param pool Pool running the workers, its parallelism is the number of threads used
+     * @see #run(CompiledDropEntry[], int, long, List)
+     */
+    public static Result run(CompiledDropEntry[] entries, int fortuneLevel, long breaks,
+                             List<RandomGenerator> generators, ForkJoinPool pool) {
+        int workers = generators.size();
+        long start = System.nanoTime();
+
+        List<ForkJoinTask<Tally>> tasks = new ArrayList<>(workers);
+        for (int worker = 0; worker < workers; worker++) {
+            long share = breaks / workers + (worker < breaks % workers ? 1 : 0);
+            RandomGenerator generator = generators.get(worker);
+            tasks.add(pool.submit(() -> simulate(entries, fortuneLevel, share, generator)));
+        }
+
+        Tally total = new Tally(entries.length);
+        for (ForkJoinTask<Tally> task : tasks) {
+            total = total.merge(task.join());
+        }
+
+        long nanos = System.nanoTime() - start;
+
+        List<EntryResult> results = new ArrayList<>(entries.length);
+        for (int i = 0; i < entries.length; i++) {
+            CompiledDropEntry entry = entries[i];
+            results.add(new EntryResult(entry.oraxenItemId(), entry.chance(), total.hits[i], total.items[i],
+                    total.sumSquares[i], total.histograms[i],
+                    entry.hitChance(fortuneLevel), entry.expectedAmount(fortuneLevel)));
+        }
+
+        DropMethod method = entries.length > 0 ? entries[0].dropMethod() : null;
+        return new Result(method, fortuneLevel, breaks, workers, nanos, results);
+    }
+
+    private static Tally simulate(CompiledDropEntry[] entries, int fortuneLevel, long breaks,
+                                  RandomGenerator random) {
+        Tally tally = new Tally(entries.length);
+
+        for (long b = 0; b < breaks; b++) {
+            for (int i = 0; i < entries.length; i++) {
+                int amount = entries[i].roll(fortuneLevel, random);
+                if (amount > 0) {
+                    tally.hits[i]++;
+                    tally.items[i] += amount;
+                    tally.sumSquares[i] += (double) amount * amount;
+                    tally.histograms[i][Math.min(amount, HISTOGRAM_SIZE - 1)]++;
+                }
+            }
+        }
+
+        return tally;
+    }
+
+    /**
+     * Counters of one worker
+     */
+    private static final class Tally {
+        private final long[] hits;
+        private final long[] items;
+        private final double[] sumSquares;
+        private final long[][] histograms;
+
+        private Tally(int entries) {
+            this.hits = new long[entries];
+            this.items = new long[entries];
+            this.sumSquares = new double[entries];
+            this.histograms = new long[entries][HISTOGRAM_SIZE];
+        }
+
+        private Tally merge(Tally other) {
+            for (int i = 0; i < hits.length; i++) {
+                hits[i] += other.hits[i];
+                items[i] += other.items[i];
+                sumSquares[i] += other.sumSquares[i];
+                for (int a = 0; a < HISTOGRAM_SIZE; a++) {
+                    histograms[i][a] += other.histograms[i][a];
+                }
+            }
+            return this;
+        }
+    }
+}
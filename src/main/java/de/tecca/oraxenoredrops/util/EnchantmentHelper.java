@@ -1,5 +1,6 @@
 package de.tecca.oraxenoredrops.util;
 
+import de.tecca.oraxenoredrops.model.EnchantProfile;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.inventory.ItemStack;
 
@@ -170,6 +171,31 @@ public class EnchantmentHelper {
         return false;
     }
 
+    // ==================== PROFILE ====================
+
+    /**
+     * Resolves all drop-relevant enchantments of a tool at once
+     *
+     * Each AE level is a string-keyed NBT lookup, so callers on the
+     * break path should cache the result (see EnchantProfileCache).
+     *
+     * @param tool The tool
+     * @return Profile of the tool, {@link EnchantProfile#NONE} if not enchanted
+     */
+    public static EnchantProfile getProfile(ItemStack tool) {
+        if (tool == null || !tool.hasItemMeta()) {
+            return EnchantProfile.NONE;
+        }
+
+        return new EnchantProfile(
+                hasSilkTouch(tool),
+                getFortuneLevel(tool),
+                getLootingLevel(tool),
+                getEfficiencyLevel(tool),
+                AEAPIUtil.getVeinminerLevel(tool)
+        );
+    }
+
     // ==================== UTILITY ====================
 
     /**
@@ -9,6 +9,21 @@ import org.bukkit.inventory.ItemStack;
  */
 public class OraxenItemUtil {
 
+    /**
+     * Checks if Oraxen has loaded its items yet
+     *
+     * Oraxen registers its items after all plugins are enabled, before that
+     * every ID would be reported as invalid.
+     */
+    public static boolean isLoaded() {
+        try {
+            var names = io.th0rgal.oraxen.api.OraxenItems.getItemNames();
+            return names != null && !names.isEmpty();
+        } catch (Exception | LinkageError e) {
+            return false;
+        }
+    }
+
     /**
      * Builds an Oraxen item with logging
      *
@@ -2,6 +2,8 @@ package de.tecca.oraxenoredrops.util;
 
 import de.tecca.oraxenoredrops.OraxenOreDrops;
 
+import java.util.logging.Level;
+
 /**
  * Centralized logging utility for the plugin
  * Handles debug mode and log level management
@@ -45,6 +47,13 @@ public class PluginLogger {
         plugin.getLogger().severe(message);
     }
 
+    /**
+     * Error log with stack trace - ALWAYS
+     */
+    public void severe(String message, Throwable error) {
+        plugin.getLogger().log(Level.SEVERE, message, error);
+    }
+
     /**
      * Fine log (for deep debug info)
      */
@@ -0,0 +1,99 @@
+package de.tecca.oraxenoredrops.util;
+
+import org.bukkit.Location;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Runs tasks on the right thread on Paper and Folia
+ *
+ * Paper has one main thread for everything. Folia ticks regions on many
+ * threads: world state must be touched by the region owning it, entities
+ * by their own scheduler, and there is no main thread and no global tick
+ * end. Everything that schedules goes through this adapter.
+ */
+public interface SchedulerAdapter {
+
+    /**
+     * Picks the implementation for the running server
+     */
+    static SchedulerAdapter create(Plugin plugin) {
+        return isFolia() ? new FoliaSchedulerAdapter(plugin) : new BukkitSchedulerAdapter(plugin);
+    }
+
+    /**
+     * Checks if the server is Folia (region-threaded)
+     */
+    static boolean isFolia() {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Whether world state is owned by several region threads
+     */
+    boolean isRegionized();
+
+    /**
+     * Runs a task on the global region (main thread on Paper)
+     */
+    void runGlobal(Runnable task);
+
+    /**
+     * Runs a task on the region owning a location (main thread on Paper)
+     */
+    void runAt(Location location, Runnable task);
+
+    /**
+     * Runs a task on the thread owning an entity (main thread on Paper)
+     *
+     * Dropped if the entity is removed before it runs.
+     */
+    void runFor(Entity entity, Runnable task);
+
+    /**
+     * Runs a task where messages to a command sender may be sent
+     */
+    default void runFor(CommandSender sender, Runnable task) {
+        if (sender instanceof Entity entity) {
+            runFor(entity, task);
+        } else {
+            runGlobal(task);
+        }
+    }
+
+    /**
+     * Runs a task off the server threads
+     */
+    void runAsync(Runnable task);
+
+    /**
+     * Runs a task off the server threads repeatedly
+     *
+     * @param delayTicks Delay before the first run, in ticks (50ms)
+     * @param periodTicks Period, in ticks (50ms)
+     */
+    Task runAsyncTimer(Runnable task, long delayTicks, long periodTicks);
+
+    /**
+     * Checks if the current thread may touch the world at a location
+     */
+    boolean isOwnedByCurrentThread(Location location);
+
+    /**
+     * Cancels all tasks of the plugin
+     */
+    void cancelTasks();
+
+    /**
+     * Handle of a repeating task
+     */
+    interface Task {
+        void cancel();
+    }
+}